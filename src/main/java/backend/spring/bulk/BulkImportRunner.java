@@ -0,0 +1,49 @@
+package backend.spring.bulk;
+
+import backend.spring.member.counter.MemberCounterReconciler;
+import backend.spring.sns.counter.PostCounterReconciler;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// 명령행 일괄 가져오기 (가져오기 후 개수 컬럼을 재계산하고 종료)
+// java -jar app.jar --spring.main.web-application-type=none --bulk-import.file=/data/import.ndjson
+@Component
+@ConditionalOnProperty(name = "bulk-import.file")
+public class BulkImportRunner implements ApplicationRunner {
+
+    private final BulkImporter bulkImporter;
+    private final MemberCounterReconciler memberCounterReconciler;
+    private final PostCounterReconciler postCounterReconciler;
+    private final ConfigurableApplicationContext applicationContext;
+    private final Path file;
+    private final String source;
+
+    public BulkImportRunner(BulkImporter bulkImporter, MemberCounterReconciler memberCounterReconciler,
+                            PostCounterReconciler postCounterReconciler,
+                            ConfigurableApplicationContext applicationContext,
+                            @Value("${bulk-import.file}") String file,
+                            @Value("${bulk-import.source:}") String source) {
+        this.bulkImporter = bulkImporter;
+        this.memberCounterReconciler = memberCounterReconciler;
+        this.postCounterReconciler = postCounterReconciler;
+        this.applicationContext = applicationContext;
+        this.file = Path.of(file);
+        this.source = source.isBlank() ? this.file.getFileName().toString() : source;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        bulkImporter.importFile(file, source);
+        memberCounterReconciler.reconcile();
+        // 가져오기는 좋아요를 만들지 않으므로 운영 중인 인스턴스의 좋아요 증감과 겹치지 않도록 댓글 수만 재계산
+        postCounterReconciler.replayComments();
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+}
@@ -0,0 +1,326 @@
+package backend.spring.bulk;
+
+import backend.spring.member.model.Role;
+import backend.spring.member.model.entity.Member;
+import backend.spring.sns.model.entity.Comment;
+import backend.spring.sns.model.entity.Post;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// NDJSON 회원, 팔로우, 게시물, 댓글 일괄 가져오기
+// 한 줄에 하나의 레코드이며 회원은 이름, 게시물은 파일 안의 ref로 참조
+//   {"type":"member","name":"alice","password":"<bcrypt 해시>","avatarUrl":"..."}
+//   {"type":"follow","follower":"alice","following":"bob"}
+//   {"type":"post","ref":"p1","author":"alice","photoUrl":"...","caption":"...","location":"...",
+//    "createdAt":"2021-03-01T12:00:00Z"}
+//   {"type":"comment","post":"p1","author":"bob","message":"...","createdAt":"2021-03-01T12:05:00"}
+// createdAt은 ISO-8601 (오프셋이 없으면 서버 시간대), 없으면 가져온 시각
+// 배치마다 처리한 줄 번호와 게시물 ref를 같은 트랜잭션으로 저장하므로 중단 후 다시 실행하면 이어서 처리
+@Component
+public class BulkImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImporter.class);
+
+    private static final int NAME_CACHE_SIZE = 1_000_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long reportIntervalMillis;
+
+    // 이름 -> 회원 id
+    private final Map<String, Long> memberIds = new HashMap<>();
+
+    public BulkImporter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                        TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                        @Value("${bulk-import.batch-size:5000}") int batchSize,
+                        @Value("${bulk-import.report-interval-ms:5000}") long reportIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.reportIntervalMillis = reportIntervalMillis;
+    }
+
+    // 파일 가져오기 (source는 체크포인트 키)
+    public void importFile(Path file, String source) throws IOException {
+        createCheckpointTables();
+        long committedLines = findCommittedLines(source);
+        if (committedLines > 0) {
+            logger.info("[BulkImport] resuming {} after line {}", source, committedLines);
+        }
+
+        ImportProgress progress = new ImportProgress(reportIntervalMillis);
+        ImportBatch batch = new ImportBatch();
+        long lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= committedLines || line.isBlank()) {
+                    continue;
+                }
+                batch.add(objectMapper.readTree(line), lineNumber);
+                if (batch.size() >= batchSize) {
+                    progress.add(commit(batch, source, lineNumber));
+                    progress.reportIfDue(lineNumber);
+                    batch = new ImportBatch();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            progress.add(commit(batch, source, lineNumber));
+        }
+        progress.report(lineNumber);
+    }
+
+    // 배치 반영 및 체크포인트 저장 (한 트랜잭션)
+    private ImportProgress commit(ImportBatch batch, String source, long lineNumber) {
+        Map<String, Long> newMemberIds = new HashMap<>();
+        ImportProgress counts = transactionTemplate.execute(status -> {
+            ImportProgress batchCounts = new ImportProgress(reportIntervalMillis);
+            insertMembers(batch.members, newMemberIds, batchCounts);
+            resolveMemberIds(referencedNames(batch), newMemberIds);
+            List<Object[]> postCreatedAts = new ArrayList<>();
+            List<Object[]> commentCreatedAts = new ArrayList<>();
+            Map<String, Long> postIds = insertPosts(batch.posts, source, newMemberIds, postCreatedAts, batchCounts);
+            insertComments(batch.comments, source, postIds, newMemberIds, commentCreatedAts, batchCounts);
+
+            // 회원, 게시물, 댓글 INSERT 배치 전송 후 영속성 컨텍스트 비우기
+            entityManager.flush();
+            entityManager.clear();
+
+            // 저장 시 감사 기능이 가져온 시각으로 채운 생성 날짜를 원본 날짜로 교체 (피드 순서, 날짜 검색 유지)
+            if (!postCreatedAts.isEmpty()) {
+                jdbcTemplate.batchUpdate("update posts set created_at = ?, modified_at = ? where post_id = ?",
+                        postCreatedAts);
+            }
+            if (!commentCreatedAts.isEmpty()) {
+                jdbcTemplate.batchUpdate("update comments set created_at = ?, modified_at = ? where comment_id = ?",
+                        commentCreatedAts);
+            }
+
+            insertFollows(batch.follows, newMemberIds, batchCounts);
+            jdbcTemplate.update("insert into bulk_import_checkpoint (source, committed_lines) values (?, ?) "
+                    + "on duplicate key update committed_lines = values(committed_lines)", source, lineNumber);
+            return batchCounts;
+        });
+
+        // 커밋된 회원만 캐시
+        if (memberIds.size() > NAME_CACHE_SIZE) {
+            memberIds.clear();
+        }
+        memberIds.putAll(newMemberIds);
+        return counts;
+    }
+
+    private void insertMembers(List<JsonNode> records, Map<String, Long> newMemberIds, ImportProgress counts) {
+        for (JsonNode record : records) {
+            Member member = Member.builder()
+                    .name(record.path("name").asText())
+                    .password(record.path("password").asText())
+                    .roles(Collections.singletonList(Role.USER))
+                    .build();
+            member.setAvatarUrl(record.path("avatarUrl").asText(null));
+            entityManager.persist(member);
+            newMemberIds.put(member.getName(), member.getMemberId());
+            counts.members++;
+        }
+    }
+
+    private Map<String, Long> insertPosts(List<JsonNode> records, String source, Map<String, Long> newMemberIds,
+                                          List<Object[]> createdAts, ImportProgress counts) {
+        Map<String, Long> postIds = new HashMap<>();
+        List<Object[]> refs = new ArrayList<>();
+        for (JsonNode record : records) {
+            Long authorId = memberId(record.path("author").asText(), newMemberIds);
+            if (authorId == null) {
+                skip(record, counts);
+                continue;
+            }
+            Post post = Post.builder()
+                    .author(entityManager.getReference(Member.class, authorId))
+                    .photoUrl(record.path("photoUrl").asText(null))
+                    .caption(record.path("caption").asText(null))
+                    .location(record.path("location").asText(null))
+                    .build();
+            entityManager.persist(post);
+            addCreatedAt(record, post.getPostId(), createdAts);
+            postIds.put(record.path("ref").asText(), post.getPostId());
+            refs.add(new Object[]{source, record.path("ref").asText(), post.getPostId()});
+            counts.posts++;
+        }
+        if (!refs.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into bulk_import_post_ref (source, ref, post_id) values (?, ?, ?)", refs);
+        }
+        return postIds;
+    }
+
+    private void insertComments(List<JsonNode> records, String source, Map<String, Long> postIds,
+                                Map<String, Long> newMemberIds, List<Object[]> createdAts, ImportProgress counts) {
+        resolvePostIds(records, source, postIds);
+        for (JsonNode record : records) {
+            Long authorId = memberId(record.path("author").asText(), newMemberIds);
+            Long postId = postIds.get(record.path("post").asText());
+            if (authorId == null || postId == null) {
+                skip(record, counts);
+                continue;
+            }
+            Comment comment = Comment.builder()
+                    .author(entityManager.getReference(Member.class, authorId))
+                    .post(entityManager.getReference(Post.class, postId))
+                    .message(record.path("message").asText(null))
+                    .build();
+            entityManager.persist(comment);
+            addCreatedAt(record, comment.getCommentId(), createdAts);
+            counts.comments++;
+        }
+    }
+
+    private void insertFollows(List<JsonNode> records, Map<String, Long> newMemberIds, ImportProgress counts) {
+        List<Object[]> follows = new ArrayList<>(records.size());
+        for (JsonNode record : records) {
+            Long followerId = memberId(record.path("follower").asText(), newMemberIds);
+            Long followingId = memberId(record.path("following").asText(), newMemberIds);
+            if (followerId == null || followingId == null) {
+                skip(record, counts);
+                continue;
+            }
+            follows.add(new Object[]{followerId, followingId});
+            counts.follows++;
+        }
+        if (!follows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert ignore into following_set (follower_id, following_id) values (?, ?)",
+                    follows);
+        }
+    }
+
+    // 배치에서 참조하는 회원 이름
+    private Set<String> referencedNames(ImportBatch batch) {
+        Set<String> names = new HashSet<>();
+        batch.posts.forEach(record -> names.add(record.path("author").asText()));
+        batch.comments.forEach(record -> names.add(record.path("author").asText()));
+        batch.follows.forEach(record -> {
+            names.add(record.path("follower").asText());
+            names.add(record.path("following").asText());
+        });
+        return names;
+    }
+
+    // 캐시에 없는 이름을 한 번에 조회
+    private void resolveMemberIds(Collection<String> names, Map<String, Long> newMemberIds) {
+        List<String> unknown = names.stream()
+                .filter(name -> !memberIds.containsKey(name) && !newMemberIds.containsKey(name))
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.query("select member_id, username from users where username in (:names)",
+                new MapSqlParameterSource("names", unknown),
+                (RowCallbackHandler) rs -> newMemberIds.put(rs.getString("username"), rs.getLong("member_id")));
+    }
+
+    // 이전 배치에서 저장된 게시물 ref 조회
+    private void resolvePostIds(List<JsonNode> records, String source, Map<String, Long> postIds) {
+        List<String> unknown = records.stream()
+                .map(record -> record.path("post").asText())
+                .filter(ref -> !postIds.containsKey(ref))
+                .distinct()
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.query(
+                "select ref, post_id from bulk_import_post_ref where source = :source and ref in (:refs)",
+                new MapSqlParameterSource("source", source).addValue("refs", unknown),
+                (RowCallbackHandler) rs -> postIds.put(rs.getString("ref"), rs.getLong("post_id")));
+    }
+
+    // 원본 생성 날짜가 있는 레코드만 (생성 날짜, 수정 날짜, id) 추가
+    private void addCreatedAt(JsonNode record, Long id, List<Object[]> createdAts) {
+        LocalDateTime createdAt = createdAt(record);
+        if (createdAt != null) {
+            createdAts.add(new Object[]{createdAt, createdAt, id});
+        }
+    }
+
+    // ISO-8601 생성 날짜 (오프셋이 있으면 서버 시간대로 변환, 없거나 형식이 틀리면 null)
+    private LocalDateTime createdAt(JsonNode record) {
+        String value = record.path("createdAt").asText(null);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                logger.warn("[BulkImport] invalid createdAt, using import time: {}", record);
+                return null;
+            }
+        }
+    }
+
+    private Long memberId(String name, Map<String, Long> newMemberIds) {
+        Long memberId = newMemberIds.get(name);
+        return memberId != null ? memberId : memberIds.get(name);
+    }
+
+    private void skip(JsonNode record, ImportProgress counts) {
+        logger.warn("[BulkImport] skipped record with unknown reference: {}", record);
+        counts.skipped++;
+    }
+
+    private long findCommittedLines(String source) {
+        List<Long> lines = jdbcTemplate.queryForList(
+                "select committed_lines from bulk_import_checkpoint where source = ?", Long.class, source);
+        return lines.isEmpty() ? 0 : lines.get(0);
+    }
+
+    private void createCheckpointTables() {
+        jdbcTemplate.execute("create table if not exists bulk_import_checkpoint ("
+                + "source varchar(255) not null primary key, "
+                + "committed_lines bigint not null)");
+        jdbcTemplate.execute("create table if not exists bulk_import_post_ref ("
+                + "source varchar(255) not null, "
+                + "ref varchar(255) not null, "
+                + "post_id bigint not null, "
+                + "primary key (source, ref))");
+    }
+
+}
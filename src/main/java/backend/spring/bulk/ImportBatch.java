@@ -0,0 +1,34 @@
+package backend.spring.bulk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+
+// 한 트랜잭션으로 반영할 NDJSON 레코드 (참조 순서대로 회원, 게시물, 팔로우, 댓글)
+final class ImportBatch {
+
+    final List<JsonNode> members = new ArrayList<>();
+    final List<JsonNode> posts = new ArrayList<>();
+    final List<JsonNode> follows = new ArrayList<>();
+    final List<JsonNode> comments = new ArrayList<>();
+
+    void add(JsonNode record, long lineNumber) {
+        String type = record.path("type").asText();
+        switch (type) {
+            case "member" -> members.add(record);
+            case "post" -> posts.add(record);
+            case "follow" -> follows.add(record);
+            case "comment" -> comments.add(record);
+            default -> throw new IllegalArgumentException("unknown record type '" + type + "' at line " + lineNumber);
+        }
+    }
+
+    int size() {
+        return members.size() + posts.size() + follows.size() + comments.size();
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+}
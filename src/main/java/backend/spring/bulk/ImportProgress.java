@@ -0,0 +1,61 @@
+package backend.spring.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// 가져오기 진행 상황 (종류별 행 수와 초당 행 수를 주기적으로 기록)
+final class ImportProgress {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportProgress.class);
+
+    private final long startedAt = System.nanoTime();
+    private final long reportIntervalNanos;
+    private long lastReportAt = startedAt;
+    private long rowsAtLastReport;
+
+    long members;
+    long posts;
+    long follows;
+    long comments;
+    long skipped;
+
+    ImportProgress(long reportIntervalMillis) {
+        this.reportIntervalNanos = reportIntervalMillis * 1_000_000L;
+    }
+
+    void add(ImportProgress batch) {
+        members += batch.members;
+        posts += batch.posts;
+        follows += batch.follows;
+        comments += batch.comments;
+        skipped += batch.skipped;
+    }
+
+    long rows() {
+        return members + posts + follows + comments;
+    }
+
+    void reportIfDue(long committedLines) {
+        long now = System.nanoTime();
+        if (now - lastReportAt >= reportIntervalNanos) {
+            report(committedLines, now);
+        }
+    }
+
+    void report(long committedLines) {
+        report(committedLines, System.nanoTime());
+    }
+
+    private void report(long committedLines, long now) {
+        long rows = rows();
+        double recentRate = (rows - rowsAtLastReport) / Math.max((now - lastReportAt) / 1e9, 1e-9);
+        double overallRate = rows / Math.max((now - startedAt) / 1e9, 1e-9);
+        logger.info("[BulkImport] line {}: {} rows (members {}, posts {}, follows {}, comments {}, skipped {}), "
+                        + "{} rows/sec recent, {} rows/sec overall",
+                committedLines, rows, members, posts, follows, comments, skipped,
+                Math.round(recentRate), Math.round(overallRate));
+        lastReportAt = now;
+        rowsAtLastReport = rows;
+    }
+
+}
@@ -0,0 +1,110 @@
+package backend.spring.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+// 최대 개수(LRU)와 TTL로 제한되는 로컬 캐시 (적중, 실패, 제거 횟수를 cache.* 지표로 노출)
+public class BoundedTtlCache<K, V> {
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public BoundedTtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("cache.evictions").tag("cache", name).tag("cause", "size")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder("cache.evictions").tag("cache", name).tag("cause", "expired")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("cache.evictions").tag("cache", name).tag("cause", "invalidated")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, BoundedTtlCache::size).tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    // 캐시 조회 (없거나 만료되면 null)
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            expiredEvictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    // 캐시 저장 (최대 개수를 넘으면 가장 오래 사용하지 않은 항목 제거)
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    // 키가 조건에 맞는 항목 제거 (만료된 항목도 함께 정리)
+    public void invalidateIf(Predicate<K> predicate) {
+        invalidateEntriesIf((key, value) -> predicate.test(key));
+    }
+
+    // 키와 값이 조건에 맞는 항목 제거 (만료된 항목도 함께 정리)
+    public synchronized void invalidateEntriesIf(BiPredicate<K, V> predicate) {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (entry.getValue().isExpired(now)) {
+                iterator.remove();
+                expiredEvictions.increment();
+            } else if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+    }
+
+}
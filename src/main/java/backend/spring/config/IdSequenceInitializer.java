@@ -0,0 +1,46 @@
+package backend.spring.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// id 시퀀스 테이블을 기존 최대 id 이후로 맞춤 (IDENTITY로 생성된 행과 충돌 방지)
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // 엔티티의 allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        align("users_seq", "users", "member_id");
+        align("posts_seq", "posts", "post_id");
+        align("comments_seq", "comments", "comment_id");
+    }
+
+    // next_val >= 최대 id + 할당 크기 + 1 (pooled 최적화기는 next_val 이전 구간을 사용)
+    private void align(String sequenceTable, String table, String idColumn) {
+        jdbcTemplate.update("insert into " + sequenceTable + " (next_val) select 1 from dual "
+                + "where not exists (select 1 from " + sequenceTable + ")");
+        Long maxId = jdbcTemplate.queryForObject(
+                "select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        int updated = jdbcTemplate.update("update " + sequenceTable + " set next_val = ? where next_val < ?",
+                maxId + ALLOCATION_SIZE + 1, maxId + ALLOCATION_SIZE + 1);
+        if (updated > 0) {
+            logger.info("[IdSequence] {} aligned to {}", sequenceTable, maxId + ALLOCATION_SIZE + 1);
+        }
+    }
+
+}
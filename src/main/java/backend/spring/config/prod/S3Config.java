@@ -1,13 +1,16 @@
 package backend.spring.config.prod;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
 
 @Profile("prod")
 @Configuration
@@ -22,15 +25,30 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 저장소 주소 (MinIO, LocalStack 등, 비어 있으면 AWS S3)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 파트 병렬 업로드 동시 연결 수
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return (AmazonS3Client) AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .build();
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(maxConnections))
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (StringUtils.hasText(endpoint)) {
+            // S3 호환 저장소는 가상 호스트 방식 주소를 지원하지 않는 경우가 많으므로 경로 방식 사용
+            builder.withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
+        return (AmazonS3Client) builder.build();
     }
 
-}
\ No newline at end of file
+}
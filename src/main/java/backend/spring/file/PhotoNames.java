@@ -0,0 +1,35 @@
+package backend.spring.file;
+
+import java.util.List;
+import java.util.Locale;
+
+// 내용 해시 기반 사진 이름 규칙
+public final class PhotoNames {
+
+    // ImagePipeline이 생성하는 변형 (큰 것부터)
+    public static final List<String> VARIANTS = List.of("full", "feed", "thumb");
+
+    private PhotoNames() {
+    }
+
+    // 내용 해시 + 원본 확장자 (확장자가 없거나 이상하면 해시만 사용)
+    public static String contentName(String contentHash, String originalFilename) {
+        if (originalFilename == null) {
+            return contentHash;
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        String extension = dot < 0 ? "" : originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!extension.matches("[a-z0-9]{1,5}")) {
+            return contentHash;
+        }
+        return contentHash + "." + extension;
+    }
+
+    // 변형 이름 (예: {해시}_png_feed.jpg, 확장자가 없으면 {해시}_feed.jpg)
+    // 참조 수는 원본 이름(해시 + 확장자) 단위이므로 변형 이름에도 확장자를 남겨, 같은 내용이 다른 확장자로
+    // 저장되어도 각 원본이 자기 변형만 소유하도록 함 (다른 원본의 참조가 0이 되어도 변형이 삭제되지 않음)
+    public static String variantName(String photoName, String variant) {
+        return photoName.replace('.', '_') + "_" + variant + ".jpg";
+    }
+
+}
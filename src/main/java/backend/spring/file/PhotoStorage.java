@@ -0,0 +1,111 @@
+package backend.spring.file;
+
+import backend.spring.file.model.StoredPhoto;
+import backend.spring.file.repository.PendingPhotoRefRepository;
+import backend.spring.file.repository.PhotoRefRepository;
+import backend.spring.file.service.FileService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+// 내용 해시로 사진 저장 (같은 내용이 이미 있으면 업로드 생략, 참조 수로 정리 대상 판단)
+@Component
+public class PhotoStorage {
+
+    private final FileService fileService;
+    private final PhotoRefRepository photoRefRepository;
+    private final PendingPhotoRefRepository pendingPhotoRefRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter deduplicated;
+    private final Counter uploaded;
+
+    public PhotoStorage(FileService fileService, PhotoRefRepository photoRefRepository,
+                        PendingPhotoRefRepository pendingPhotoRefRepository,
+                        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        this.photoRefRepository = photoRefRepository;
+        this.pendingPhotoRefRepository = pendingPhotoRefRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.deduplicated = Counter.builder("file.photo.stored").tag("result", "deduplicated")
+                .description("저장 요청된 사진 수")
+                .register(meterRegistry);
+        this.uploaded = Counter.builder("file.photo.stored").tag("result", "uploaded")
+                .description("저장 요청된 사진 수")
+                .register(meterRegistry);
+    }
+
+    // 확정 대기 참조 추가 후 저장 (트랜잭션 밖에서 호출, 게시물 저장 트랜잭션에서 confirm, 실패하면 abandon으로 보상)
+    public StoredPhoto store(MultipartFile photo) throws IOException {
+        String photoName = PhotoNames.contentName(hash(photo), photo.getOriginalFilename());
+        String uploadId = UUID.randomUUID().toString();
+
+        // 참조를 먼저 커밋하여 정리 작업이 삭제하지 않도록 함 (정리 중이면 행 잠금이 풀릴 때까지 대기)
+        // 확정 대기 행은 게시물 커밋 전에 프로세스가 종료되어도 PhotoGarbageCollector가 참조를 해제하도록 남김
+        transactionTemplate.executeWithoutResult(status -> {
+            photoRefRepository.acquire(photoName);
+            pendingPhotoRefRepository.insert(uploadId, photoName);
+        });
+
+        try {
+            if (fileService.exists(photoName)) {
+                deduplicated.increment();
+                return new StoredPhoto(photoName, fileService.getUrl(photoName), true, uploadId);
+            }
+            String photoUrl = fileService.uploadPhoto(photo, photoName);
+            uploaded.increment();
+            return new StoredPhoto(photoName, photoUrl, false, uploadId);
+        } catch (IOException | RuntimeException e) {
+            abandon(uploadId, photoName);
+            throw e;
+        }
+    }
+
+    // 참조 확정 (게시물 저장 트랜잭션 안에서 호출하여 게시물과 함께 커밋)
+    public void confirm(StoredPhoto storedPhoto) {
+        pendingPhotoRefRepository.remove(storedPhoto.uploadId());
+    }
+
+    // 게시물 저장 실패 시 확정 대기 참조 해제
+    public void abandon(StoredPhoto storedPhoto) {
+        abandon(storedPhoto.uploadId(), storedPhoto.photoName());
+    }
+
+    // 확정 대기 행을 지운 쪽만 참조 해제 (보상과 만료 정리가 겹쳐도 한 번만 해제)
+    // 0이 된 사진은 유예 기간 후 PhotoGarbageCollector가 삭제
+    public boolean abandon(String uploadId, String photoName) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (pendingPhotoRefRepository.remove(uploadId) == 0) {
+                return false;
+            }
+            photoRefRepository.release(photoName);
+            return true;
+        }));
+    }
+
+    // 업로드 임시 파일을 한 번 읽어 SHA-256 계산
+    private static String hash(MultipartFile photo) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(photo.getInputStream(), digest)) {
+            byte[] buffer = new byte[64 * 1024];
+            while (in.read(buffer) != -1) {
+                // 읽는 동안 해시 갱신
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+}
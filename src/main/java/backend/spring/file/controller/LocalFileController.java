@@ -0,0 +1,252 @@
+package backend.spring.file.controller;
+
+import backend.spring.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+// 로컬 파일시스템 사진, 아바타 제공 (sendfile, Range, ETag, 장기 캐시)
+@Hidden
+@Profile("local")
+@RestController
+public class LocalFileController {
+
+    // 업로드 파일 이름이 UUID 또는 내용 해시라 내용이 바뀌지 않으므로 1년 동안 재검증 없이 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile 지원 여부 및 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path photoDir;
+    private final Path avatarDir;
+    // 파일 이름 -> 내용 해시 ETag (크기, 수정 시각이 바뀌면 다시 계산)
+    private final BoundedTtlCache<Path, FileTag> etags;
+
+    public LocalFileController(MeterRegistry meterRegistry,
+                               @Value("${photo.file.dir}") String photoFileDir,
+                               @Value("${avatar.file.dir}") String avatarFileDir,
+                               @Value("${file.etag-cache.max-entries:10000}") int etagCacheMaxEntries)
+            throws FileNotFoundException {
+        this.photoDir = ResourceUtils.getFile(photoFileDir).toPath().toAbsolutePath().normalize();
+        this.avatarDir = ResourceUtils.getFile(avatarFileDir).toPath().toAbsolutePath().normalize();
+        this.etags = new BoundedTtlCache<>("file.etag", etagCacheMaxEntries, Duration.ofDays(1), meterRegistry);
+    }
+
+    // 게시물 사진
+    @GetMapping("/sns/photos/{fileName:.+}")
+    public void getPhoto(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        serve(fileName, request, response, photoDir, avatarDir);
+    }
+
+    // 회원 아바타
+    @GetMapping("/users/avatars/{fileName:.+}")
+    public void getAvatar(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        serve(fileName, request, response, avatarDir, photoDir);
+    }
+
+    // 앞 디렉터리부터 파일 탐색 (기존 리소스 핸들러와 같이 두 디렉터리 모두 확인)
+    private void serve(String fileName, HttpServletRequest request, HttpServletResponse response, Path... dirs)
+            throws IOException {
+        Path file = resolve(fileName, dirs);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        String etag = etag(file, attributes);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, attributes.lastModifiedTime().toMillis());
+
+        // 조건부 요청
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 범위 요청 (If-Range가 현재 ETag와 다르면 전체 응답)
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(count);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        // 커넥터가 sendfile을 지원하면 응답 후 커널이 파일을 소켓으로 직접 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // sendfile을 쓸 수 없으면 버퍼로 복사 (서블릿 출력 스트림은 소켓 채널이 아니라 직접 전송 불가)
+        try (InputStream in = Files.newInputStream(file)) {
+            StreamUtils.copyRange(in, response.getOutputStream(), start, end);
+        }
+    }
+
+    // 디렉터리 밖 경로 차단
+    private static Path resolve(String fileName, Path... dirs) {
+        for (Path dir : dirs) {
+            Path file = dir.resolve(fileName).normalize();
+            if (file.startsWith(dir) && Files.isRegularFile(file)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    // 내용 해시 ETag (파일 크기와 수정 시각이 같으면 캐시 재사용)
+    private String etag(Path file, BasicFileAttributes attributes) throws IOException {
+        long size = attributes.size();
+        long modifiedAt = attributes.lastModifiedTime().toMillis();
+        FileTag cached = etags.get(file);
+        if (cached != null && cached.size() == size && cached.modifiedAt() == modifiedAt) {
+            return cached.etag();
+        }
+
+        String etag = "\"" + hash(file) + "\"";
+        etags.put(file, new FileTag(size, modifiedAt, etag));
+        return etag;
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        // 앞 16바이트만 사용
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    // If-None-Match 목록 중 일치 여부 (약한 ETag 비교)
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 단일 범위 해석 ({시작, 끝}, 여러 범위나 형식 오류는 빈 배열로 전체 응답, 만족할 수 없으면 null)
+    // 끝이 시작보다 앞선 범위는 RFC 9110에 따라 형식 오류로 보고 무시
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                if (last.isEmpty()) {
+                    end = length - 1;
+                } else {
+                    long requestedEnd = Long.parseLong(last);
+                    if (requestedEnd < start) {
+                        return new long[0];
+                    }
+                    end = Math.min(requestedEnd, length - 1);
+                }
+            }
+            if (start >= length) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private record FileTag(long size, long modifiedAt, String etag) {
+    }
+
+}
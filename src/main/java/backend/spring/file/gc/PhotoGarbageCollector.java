@@ -0,0 +1,119 @@
+package backend.spring.file.gc;
+
+import backend.spring.file.PhotoNames;
+import backend.spring.file.PhotoStorage;
+import backend.spring.file.model.entity.PendingPhotoRef;
+import backend.spring.file.repository.PendingPhotoRefRepository;
+import backend.spring.file.repository.PhotoRefRepository;
+import backend.spring.file.service.FileService;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 확정되지 않은 채 남은 참조를 해제하고, 참조 수가 0인 채로 유예 기간이 지난 사진과 변형 삭제
+@Component
+public class PhotoGarbageCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoGarbageCollector.class);
+
+    private final FileService fileService;
+    private final PhotoRefRepository photoRefRepository;
+    private final PendingPhotoRefRepository pendingPhotoRefRepository;
+    private final PhotoStorage photoStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final long graceHours;
+    private final long pendingGraceMinutes;
+    private final int batchSize;
+
+    public PhotoGarbageCollector(FileService fileService, PhotoRefRepository photoRefRepository,
+                                 PendingPhotoRefRepository pendingPhotoRefRepository, PhotoStorage photoStorage,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${file.gc.grace-hours:24}") long graceHours,
+                                 @Value("${file.gc.pending-grace-minutes:60}") long pendingGraceMinutes,
+                                 @Value("${file.gc.batch-size:500}") int batchSize) {
+        this.fileService = fileService;
+        this.photoRefRepository = photoRefRepository;
+        this.pendingPhotoRefRepository = pendingPhotoRefRepository;
+        this.photoStorage = photoStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.graceHours = graceHours;
+        this.pendingGraceMinutes = pendingGraceMinutes;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${file.gc.cron:0 0 3 * * *}")
+    public void collect() {
+        expirePending();
+
+        LocalDateTime before = LocalDateTime.now().minusHours(graceHours);
+        int deleted = 0;
+        List<String> photoNames;
+        int batchDeleted;
+        do {
+            photoNames = photoRefRepository.findUnreferenced(before, batchSize);
+            batchDeleted = 0;
+            for (String photoName : photoNames) {
+                if (collect(photoName)) {
+                    batchDeleted++;
+                }
+            }
+            deleted += batchDeleted;
+            // 전부 실패한 배치는 같은 행이 다시 조회되므로 다음 주기에 재시도
+        } while (photoNames.size() == batchSize && batchDeleted > 0);
+        logger.info("[PhotoGC] deleted {} photos", deleted);
+    }
+
+    // 업로드 후 게시물 커밋 전에 프로세스가 종료되어 확정되지 않은 참조 해제 (해제된 사진은 다음 유예 기간 후 삭제)
+    private void expirePending() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(pendingGraceMinutes);
+        int expired = 0;
+        List<PendingPhotoRef> pendingRefs;
+        do {
+            pendingRefs = pendingPhotoRefRepository.findExpired(before, batchSize);
+            for (PendingPhotoRef pendingRef : pendingRefs) {
+                try {
+                    if (photoStorage.abandon(pendingRef.getUploadId(), pendingRef.getPhotoName())) {
+                        expired++;
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("[PhotoGC] pending {} failed: {}", pendingRef.getUploadId(), e.getMessage());
+                    return;
+                }
+            }
+        } while (pendingRefs.size() == batchSize);
+        logger.info("[PhotoGC] released {} unconfirmed references", expired);
+    }
+
+    // 행 잠금을 쥔 채 파일 삭제 (그동안 같은 내용을 저장하려는 요청은 잠금 해제 후 다시 업로드)
+    private boolean collect(String photoName) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (photoRefRepository.lockUnreferenced(photoName).isEmpty()) {
+                    return false;
+                }
+                delete(photoName);
+                PhotoNames.VARIANTS.forEach(variant -> delete(PhotoNames.variantName(photoName, variant)));
+                photoRefRepository.deleteUnreferenced(photoName);
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            logger.error("[PhotoGC] {} failed: {}", photoName, e.getMessage());
+            return false;
+        }
+    }
+
+    private void delete(String photoName) {
+        try {
+            fileService.delete(photoName);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
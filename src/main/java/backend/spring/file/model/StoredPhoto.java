@@ -0,0 +1,9 @@
+package backend.spring.file.model;
+
+// 저장된 사진 (이미 같은 내용이 있어 업로드를 생략했으면 deduplicated, 게시물 저장 시 uploadId로 참조 확정)
+public record StoredPhoto(String photoName, String photoUrl, boolean deduplicated, String uploadId) {
+
+    public StoredPhoto {
+    }
+
+}
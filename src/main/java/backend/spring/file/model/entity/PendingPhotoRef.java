@@ -0,0 +1,38 @@
+package backend.spring.file.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "게시물 저장 전 사진 참조")
+@Entity
+@Getter
+@Table(name = "pending_photo_refs", indexes = {
+        // 게시물이 저장되지 않은 채 남은 참조 정리
+        @Index(name = "idx_pending_photo_refs_created_at", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingPhotoRef {
+
+    // 업로드 1회 단위 id (게시물 저장 트랜잭션에서 삭제하여 참조 확정)
+    @Id
+    @Column(name = "upload_id", length = 36)
+    @Schema(description = "업로드 id")
+    private String uploadId;
+
+    @Column(name = "photo_name", nullable = false, length = 100)
+    @Schema(description = "사진 이름")
+    private String photoName;
+
+    @Column(name = "created_at", nullable = false)
+    @Schema(description = "참조 추가 시각")
+    private LocalDateTime createdAt;
+
+}
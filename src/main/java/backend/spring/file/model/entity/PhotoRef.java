@@ -0,0 +1,39 @@
+package backend.spring.file.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "사진 참조 수")
+@Entity
+@Getter
+@Table(name = "photo_refs", indexes = {
+        // 참조가 없어진 사진 정리
+        @Index(name = "idx_photo_refs_count_updated", columnList = "ref_count, updated_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PhotoRef {
+
+    // 내용 해시 기반 사진 이름
+    @Id
+    @Column(name = "photo_name", length = 100)
+    @Schema(description = "사진 이름")
+    private String photoName;
+
+    // 사진을 사용하는 게시물 수 (UPDATE 문으로만 증감)
+    @Column(name = "ref_count", nullable = false)
+    @Schema(description = "참조 수")
+    private long refCount;
+
+    @Column(name = "updated_at", nullable = false)
+    @Schema(description = "참조 수 변경 시각")
+    private LocalDateTime updatedAt;
+
+}
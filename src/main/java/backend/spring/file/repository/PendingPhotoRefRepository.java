@@ -0,0 +1,28 @@
+package backend.spring.file.repository;
+
+import backend.spring.file.model.entity.PendingPhotoRef;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PendingPhotoRefRepository extends JpaRepository<PendingPhotoRef, String> {
+
+    @Modifying
+    @Query(value = "insert into pending_photo_refs (upload_id, photo_name, created_at) "
+            + "values (:uploadId, :photoName, now())", nativeQuery = true)
+    int insert(@Param("uploadId") String uploadId, @Param("photoName") String photoName);
+
+    // 확정 또는 만료 (이미 다른 쪽에서 삭제했으면 0)
+    @Modifying
+    @Query(value = "delete from pending_photo_refs where upload_id = :uploadId", nativeQuery = true)
+    int remove(@Param("uploadId") String uploadId);
+
+    // 기준 시각 이전에 추가된 채 확정되지 않은 참조
+    @Query(value = "select * from pending_photo_refs where created_at < :before order by created_at limit :limit",
+            nativeQuery = true)
+    List<PendingPhotoRef> findExpired(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+}
@@ -0,0 +1,40 @@
+package backend.spring.file.repository;
+
+import backend.spring.file.model.entity.PhotoRef;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PhotoRefRepository extends JpaRepository<PhotoRef, String> {
+
+    // 참조 추가 (행이 없으면 생성, 커밋 전까지 행 잠금 유지)
+    @Modifying
+    @Query(value = "insert into photo_refs (photo_name, ref_count, updated_at) values (:photoName, 1, now()) "
+            + "on duplicate key update ref_count = ref_count + 1, updated_at = now()", nativeQuery = true)
+    int acquire(@Param("photoName") String photoName);
+
+    // 참조 해제
+    @Modifying
+    @Query(value = "update photo_refs set ref_count = ref_count - 1, updated_at = now() "
+            + "where photo_name = :photoName and ref_count > 0", nativeQuery = true)
+    int release(@Param("photoName") String photoName);
+
+    // 기준 시각 이전부터 참조가 없는 사진 이름
+    @Query(value = "select photo_name from photo_refs where ref_count = 0 and updated_at < :before limit :limit",
+            nativeQuery = true)
+    List<String> findUnreferenced(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 정리 전 행 잠금 (그 사이 참조가 추가되었으면 빈 값)
+    @Query(value = "select photo_name from photo_refs where photo_name = :photoName and ref_count = 0 for update",
+            nativeQuery = true)
+    Optional<String> lockUnreferenced(@Param("photoName") String photoName);
+
+    @Modifying
+    @Query(value = "delete from photo_refs where photo_name = :photoName and ref_count = 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("photoName") String photoName);
+
+}
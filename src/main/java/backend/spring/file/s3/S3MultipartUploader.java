@@ -0,0 +1,217 @@
+package backend.spring.file.s3;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// 스트림을 파트 단위로 읽어 병렬 멀티파트 업로드 (노드 전체의 파트 버퍼 메모리를 세마포어로 제한)
+@Profile("prod")
+@Component
+public class S3MultipartUploader {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3MultipartUploader.class);
+
+    // S3 멀티파트 최소 파트 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final int partSize;
+    // 파트 버퍼 1개당 허가 1개
+    private final Semaphore bufferPermits;
+    private final int maxBuffers;
+    private final ExecutorService executor;
+    private final DistributionSummary throughput;
+    private final Timer uploadTimer;
+
+    public S3MultipartUploader(AmazonS3 amazonS3, MeterRegistry meterRegistry,
+                               @Value("${file.s3.part-size-mb:8}") int partSizeMb,
+                               @Value("${file.s3.max-buffer-mb:64}") int maxBufferMb,
+                               @Value("${file.s3.upload-threads:8}") int uploadThreads) {
+        this.amazonS3 = amazonS3;
+        this.partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+        this.maxBuffers = Math.max(1, (int) ((long) maxBufferMb * 1024 * 1024 / partSize));
+        this.bufferPermits = new Semaphore(maxBuffers, true);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기 파트 수는 버퍼 허가 수로 이미 제한됨
+        this.executor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.throughput = DistributionSummary.builder("file.upload.throughput")
+                .description("업로드 1건의 처리량")
+                .baseUnit("bytes/s")
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("file.upload.duration")
+                .description("업로드 1건의 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("file.upload.buffers.in-use", bufferPermits, permits -> maxBuffers - permits.availablePermits())
+                .description("사용 중인 파트 버퍼 수")
+                .register(meterRegistry);
+    }
+
+    // 업로드 (파트 크기 이하는 단일 PUT)
+    public void upload(String bucket, String key, InputStream in, long contentLength, String contentType)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        if (contentLength <= partSize) {
+            putObject(bucket, key, in, contentLength, contentType);
+        } else {
+            uploadParts(bucket, key, in, contentType);
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        uploadTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        double bytesPerSecond = contentLength * 1e9 / Math.max(1, elapsed);
+        throughput.record(bytesPerSecond);
+        logger.info("[S3Upload] {} ({} bytes) in {} ms, {} KB/s",
+                key, contentLength, elapsed / 1_000_000, (long) (bytesPerSecond / 1024));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void putObject(String bucket, String key, InputStream in, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        amazonS3.putObject(bucket, key, in, metadata);
+    }
+
+    private void uploadParts(String bucket, String key, InputStream in, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+                .getUploadId();
+
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        // 파트 하나라도 실패하면 예외로 완료 (남은 파트를 읽어 올리지 않고 바로 중단)
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                // 버퍼 허가를 얻은 뒤에만 다음 파트를 메모리로 읽음
+                acquireBuffer();
+                if (failure.isCompletedExceptionally()) {
+                    bufferPermits.release();
+                    failure.join();
+                }
+                byte[] buffer;
+                int length;
+                try {
+                    buffer = new byte[partSize];
+                    length = in.readNBytes(buffer, 0, partSize);
+                } catch (IOException | RuntimeException e) {
+                    bufferPermits.release();
+                    throw e;
+                }
+                if (length == 0) {
+                    bufferPermits.release();
+                    break;
+                }
+                CompletableFuture<PartETag> part = submitPart(bucket, key, uploadId, partNumber++, buffer, length);
+                part.whenComplete((etag, e) -> {
+                    if (e != null) {
+                        failure.completeExceptionally(e);
+                    }
+                });
+                parts.add(part);
+                if (length < partSize) {
+                    break;
+                }
+            }
+
+            List<PartETag> etags = new ArrayList<>(parts.size());
+            for (CompletableFuture<PartETag> part : parts) {
+                etags.add(part.join());
+            }
+            etags.sort(Comparator.comparingInt(PartETag::getPartNumber));
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, etags));
+        } catch (IOException | RuntimeException e) {
+            // 진행 중인 파트가 끝난 뒤 미완료 업로드 정리 (정리 후 도착한 파트가 남지 않도록)
+            // 정리하지 않으면 파트 저장 비용 발생
+            awaitQuietly(parts);
+            abort(bucket, key, uploadId);
+            if (e instanceof CompletionException && e.getCause() instanceof AmazonClientException cause) {
+                throw new IOException(cause.getMessage(), cause);
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<PartETag> submitPart(String bucket, String key, String uploadId, int partNumber,
+                                                   byte[] buffer, int length) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucket)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartSize(length);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return amazonS3.uploadPart(request).getPartETag();
+            } finally {
+                bufferPermits.release();
+            }
+        }, executor);
+    }
+
+    private void acquireBuffer() throws InterruptedIOException {
+        try {
+            bufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("upload interrupted");
+        }
+    }
+
+    private static void awaitQuietly(List<CompletableFuture<PartETag>> parts) {
+        CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                .exceptionally(e -> null)
+                .join();
+    }
+
+    private void abort(String bucket, String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (AmazonClientException e) {
+            logger.error("[S3Upload] abort failed: key={}, uploadId={}, {}", key, uploadId, e.getMessage());
+        }
+    }
+
+}
@@ -5,4 +5,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
     String uploadPhoto(MultipartFile photo, String photoName) throws IOException;
+    String uploadBytes(byte[] data, String photoName, String contentType) throws IOException;
+    boolean exists(String photoName);
+    String getUrl(String photoName);
+    void delete(String photoName) throws IOException;
 }
@@ -2,6 +2,10 @@ package backend.spring.file.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -22,11 +26,46 @@ public class FileSystemService implements FileService {
 
     @Override
     public String uploadPhoto(MultipartFile photo, String photoName) throws IOException {
-        // 사진 파일 저장
-        String projectPath = System.getProperty("user.dir") + uploadPath;
-        File saveFile = new File(projectPath, photoName);
-        photo.transferTo(saveFile);
+        // 사진 파일 저장 (업로드 임시 파일은 이후 변형 생성에서 다시 읽으므로 이동하지 않고 복사)
+        Path tempFile = Files.createTempFile(resolve(photoName).getParent(), photoName, ".tmp");
+        try {
+            try (InputStream in = photo.getInputStream()) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // 같은 이름은 같은 내용이므로 동시에 저장해도 원자적 교체로 충분
+            Files.move(tempFile, resolve(photoName), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return getUrl(photoName);
+    }
+
+    @Override
+    public String uploadBytes(byte[] data, String photoName, String contentType) throws IOException {
+        // 생성된 파일 저장
+        Files.write(resolve(photoName), data);
+        return getUrl(photoName);
+    }
+
+    @Override
+    public boolean exists(String photoName) {
+        return Files.isRegularFile(resolve(photoName));
+    }
+
+    @Override
+    public String getUrl(String photoName) {
         return accessUrl + photoName;
     }
 
+    @Override
+    public void delete(String photoName) throws IOException {
+        Files.deleteIfExists(resolve(photoName));
+    }
+
+    private Path resolve(String photoName) {
+        String projectPath = System.getProperty("user.dir") + uploadPath;
+        return new File(projectPath, photoName).toPath();
+    }
+
 }
@@ -1,8 +1,10 @@
 package backend.spring.file.service;
 
+import backend.spring.file.s3.S3MultipartUploader;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +19,8 @@ public class S3Service implements FileService {
 
     @Autowired
     private final AmazonS3 amazonS3;
+    @Autowired
+    private final S3MultipartUploader s3MultipartUploader;
 
     @Autowired
     @Value("${cloud.aws.s3.bucket}")
@@ -24,12 +28,32 @@ public class S3Service implements FileService {
 
     @Override
     public String uploadPhoto(MultipartFile photo, String photoName) throws IOException {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(photo.getSize());
-        metadata.setContentType(photo.getContentType());
+        // 파트 단위 병렬 업로드
+        try (InputStream in = photo.getInputStream()) {
+            s3MultipartUploader.upload(bucket, photoName, in, photo.getSize(), photo.getContentType());
+        }
+        return getUrl(photoName);
+    }
+
+    @Override
+    public String uploadBytes(byte[] data, String photoName, String contentType) throws IOException {
+        s3MultipartUploader.upload(bucket, photoName, new ByteArrayInputStream(data), data.length, contentType);
+        return getUrl(photoName);
+    }
+
+    @Override
+    public boolean exists(String photoName) {
+        return amazonS3.doesObjectExist(bucket, photoName);
+    }
 
-        amazonS3.putObject(bucket, photoName, photo.getInputStream(), metadata);
+    @Override
+    public String getUrl(String photoName) {
         return amazonS3.getUrl(bucket, photoName).toString();
     }
 
+    @Override
+    public void delete(String photoName) {
+        amazonS3.deleteObject(bucket, photoName);
+    }
+
 }
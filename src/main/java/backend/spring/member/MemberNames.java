@@ -0,0 +1,27 @@
+package backend.spring.member;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 회원 이름 비교 규칙
+// users.username 컬럼의 콜레이션(utf8mb4_0900_ai_ci, 대소문자·악센트 무시)과 같은 이름을 같은 키로 모음
+// 콜레이션을 바꾸면 이 규칙도 함께 바꿔야 함 (DB가 같다고 보는 이름이 다른 키가 되면 블룸 필터가 가입된 이름을 없다고 판단)
+public final class MemberNames {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+
+    private MemberNames() {
+    }
+
+    // 소문자 변환, 호환 분해 후 발음 구별 기호 제거 (DB보다 더 많이 같게 보는 것은 허용, 덜 같게 보면 안 됨)
+    public static String collationKey(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name.strip().toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("").replace("ß", "ss");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC);
+    }
+
+}
@@ -0,0 +1,117 @@
+package backend.spring.member.bloom;
+
+import backend.spring.member.MemberNames;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+// 가입된 이름의 블룸 필터 (없다고 판단되면 DB 조회 생략, 있을 수 있으면 DB로 확인)
+@Component
+public class UsernameBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameBloomFilter.class);
+
+    private static final String LOAD_SQL = "select username from users";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    public UsernameBloomFilter(JdbcTemplate jdbcTemplate,
+                               @Value("${member.username-filter.expected-insertions:10000000}") long expectedInsertions,
+                               @Value("${member.username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    // 기동 시 DB의 모든 이름 추가 (적재 중에는 항상 DB로 확인)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long[] loaded = new long[1];
+        // 전방향 커서로 한 행씩 읽기 (MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 스트리밍)
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOAD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            put(rs.getString(1));
+            loaded[0]++;
+        });
+        ready = true;
+        logger.info("[UsernameBloomFilter] loaded {} names into {} bits with {} hashes", loaded[0], bitCount, hashCount);
+    }
+
+    public void put(String name) {
+        long hash1 = hash(name);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            setBit(index);
+        }
+    }
+
+    // 가입된 이름일 수 있는지 여부 (false면 확실히 없음)
+    public boolean mightContain(String name) {
+        if (!ready) {
+            return true;
+        }
+        long hash1 = hash(name);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // DB 비교와 같이 대소문자·악센트를 무시하도록 콜레이션 키로 해시 (MemberNames 참고)
+    private static long hash(String name) {
+        byte[] bytes = MemberNames.collationKey(name).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
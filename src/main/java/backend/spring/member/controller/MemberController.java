@@ -2,10 +2,13 @@ package backend.spring.member.controller;
 
 import backend.spring.member.dto.request.MemberSignupRequest;
 import backend.spring.member.dto.request.SuggestionRequest;
+import backend.spring.member.dto.response.NameAvailabilityResponse;
+import backend.spring.member.dto.response.ProfileResponse;
 import backend.spring.member.dto.response.SuggestionResponse;
 import backend.spring.member.service.MemberService;
 import backend.spring.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
@@ -15,9 +18,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -42,6 +47,34 @@ public class MemberController {
         return ResponseEntity.ok().build();
     }
 
+    // 이름 사용 가능 여부 조회
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이름 사용 가능 여부 조회 성공")})
+    @Operation(summary = "이름 사용 가능 여부 조회")
+    @GetMapping("/availability")
+    public ResponseEntity<NameAvailabilityResponse> checkNameAvailability(
+            @Parameter(name = "name", required = true) @RequestParam String name) {
+        // 이름 사용 가능 여부 응답 DTO 반환
+        NameAvailabilityResponse nameAvailabilityResponse = memberService.checkNameAvailability(name);
+        return ResponseEntity.ok(nameAvailabilityResponse);
+    }
+
+    // 회원 프로필 조회
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "회원 프로필 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음.")})
+    @Operation(summary = "회원 프로필 조회")
+    @GetMapping("/{name}/profile")
+    public ResponseEntity<ProfileResponse> getProfile(
+            @Parameter(name = "name", required = true) @PathVariable String name) {
+        // 로그인 중인 회원 id
+        Long memberId = securityUtil.getCurrentMemberId();
+
+        // 프로필 응답 DTO 반환
+        ProfileResponse profileResponse = memberService.getProfile(memberId, name);
+        return ResponseEntity.ok(profileResponse);
+    }
+
     // 추천 회원 리스트 반환
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "추천 회원 조회 성공"),
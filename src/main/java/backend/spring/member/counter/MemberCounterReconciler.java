@@ -0,0 +1,56 @@
+package backend.spring.member.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// following_set, posts 기준으로 회원 개수 컬럼 재계산 (어긋난 개수 복구)
+@Component
+public class MemberCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberCounterReconciler.class);
+
+    private static final String RECONCILE_SQL = "update users u set "
+            + "u.follower_count = (select count(*) from following_set f where f.following_id = u.member_id), "
+            + "u.following_count = (select count(*) from following_set f where f.follower_id = u.member_id), "
+            + "u.post_count = (select count(*) from posts p where p.author_id = u.member_id) "
+            + "where u.member_id > ? and u.member_id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean reconcileOnStartup;
+    private final int batchSize;
+
+    public MemberCounterReconciler(JdbcTemplate jdbcTemplate,
+                                   @Value("${member.counter.reconcile-on-startup:true}") boolean reconcileOnStartup,
+                                   @Value("${member.counter.reconcile-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconcileOnStartup = reconcileOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    // 기동 시 재계산 (개수 컬럼 추가 전 데이터 채우기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    // id 범위 단위로 나누어 재계산 (배치마다 별도 트랜잭션으로 잠금 시간 제한)
+    @Scheduled(cron = "${member.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxMemberId = jdbcTemplate.queryForObject("select coalesce(max(member_id), 0) from users", Long.class);
+        long updated = 0;
+        for (long from = 0; from < maxMemberId; from += batchSize) {
+            updated += jdbcTemplate.update(RECONCILE_SQL, from, Math.min(from + batchSize, maxMemberId));
+        }
+        logger.info("[MemberCounter] reconciled follower_count, following_count and post_count for {} members",
+                updated);
+    }
+
+}
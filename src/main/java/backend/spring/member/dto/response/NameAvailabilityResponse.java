@@ -0,0 +1,11 @@
+package backend.spring.member.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "이름 사용 가능 여부 응답 DTO")
+public record NameAvailabilityResponse(String name, boolean available) {
+
+    public NameAvailabilityResponse {
+    }
+
+}
@@ -0,0 +1,12 @@
+package backend.spring.member.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "회원 프로필 응답 DTO")
+public record ProfileResponse(String name, String avatarUrl, long postCount, long followerCount, long followingCount,
+                              boolean isFollow) {
+
+    public ProfileResponse {
+    }
+
+}
@@ -0,0 +1,21 @@
+package backend.spring.member.dto.response.mapper;
+
+import backend.spring.member.dto.response.ProfileResponse;
+import backend.spring.member.model.entity.Member;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProfileResponseMapper {
+
+    public static ProfileResponse toProfileResponse(Member member, boolean isFollow) {
+        return new ProfileResponse(
+                member.getName(),
+                member.getAvatarUrl(),
+                member.getPostCount(),
+                member.getFollowerCount(),
+                member.getFollowingCount(),
+                isFollow
+        );
+    }
+
+}
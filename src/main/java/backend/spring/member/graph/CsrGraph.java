@@ -0,0 +1,146 @@
+package backend.spring.member.graph;
+
+import java.util.Arrays;
+
+// 압축 희소 행(CSR) 형식의 불변 팔로우 그래프 (정방향: 팔로잉, 역방향: 팔로워)
+final class CsrGraph {
+
+    static final CsrGraph EMPTY = build(new EdgeBuffer());
+
+    // 정렬된 회원 id (배열 위치가 노드 번호)
+    private final long[] nodeIds;
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+
+    private CsrGraph(long[] nodeIds, int[] outOffsets, int[] outTargets, int[] inOffsets, int[] inTargets) {
+        this.nodeIds = nodeIds;
+        this.outOffsets = outOffsets;
+        this.outTargets = outTargets;
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+    }
+
+    static CsrGraph build(EdgeBuffer edges) {
+        int edgeCount = edges.size();
+
+        // 간선 양 끝의 회원 id를 정렬, 중복 제거하여 노드 번호 부여
+        long[] ids = new long[edgeCount * 2];
+        for (int i = 0; i < edgeCount; i++) {
+            ids[2 * i] = edges.followerAt(i);
+            ids[2 * i + 1] = edges.followingAt(i);
+        }
+        Arrays.sort(ids);
+        int nodeCount = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[nodeCount++] = ids[i];
+            }
+        }
+        long[] nodeIds = Arrays.copyOf(ids, nodeCount);
+
+        // 노드별 차수 집계 후 누적합으로 시작 위치 계산
+        int[] outOffsets = new int[nodeCount + 1];
+        int[] inOffsets = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            outOffsets[Arrays.binarySearch(nodeIds, edges.followerAt(i)) + 1]++;
+            inOffsets[Arrays.binarySearch(nodeIds, edges.followingAt(i)) + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            outOffsets[i + 1] += outOffsets[i];
+            inOffsets[i + 1] += inOffsets[i];
+        }
+
+        // 간선 배치
+        int[] outTargets = new int[edgeCount];
+        int[] inTargets = new int[edgeCount];
+        int[] outCursor = Arrays.copyOf(outOffsets, nodeCount);
+        int[] inCursor = Arrays.copyOf(inOffsets, nodeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            int follower = Arrays.binarySearch(nodeIds, edges.followerAt(i));
+            int following = Arrays.binarySearch(nodeIds, edges.followingAt(i));
+            outTargets[outCursor[follower]++] = following;
+            inTargets[inCursor[following]++] = follower;
+        }
+
+        // 이웃 목록 정렬 (간선 존재 여부를 이진 탐색으로 확인)
+        for (int i = 0; i < nodeCount; i++) {
+            Arrays.sort(outTargets, outOffsets[i], outOffsets[i + 1]);
+            Arrays.sort(inTargets, inOffsets[i], inOffsets[i + 1]);
+        }
+        return new CsrGraph(nodeIds, outOffsets, outTargets, inOffsets, inTargets);
+    }
+
+    boolean has(long followerId, long followingId) {
+        int follower = Arrays.binarySearch(nodeIds, followerId);
+        int following = Arrays.binarySearch(nodeIds, followingId);
+        if (follower < 0 || following < 0) {
+            return false;
+        }
+        return Arrays.binarySearch(outTargets, outOffsets[follower], outOffsets[follower + 1], following) >= 0;
+    }
+
+    long[] following(long memberId) {
+        return neighbours(memberId, outOffsets, outTargets);
+    }
+
+    long[] followers(long memberId) {
+        return neighbours(memberId, inOffsets, inTargets);
+    }
+
+    int followingCount(long memberId) {
+        return degree(memberId, outOffsets);
+    }
+
+    int followerCount(long memberId) {
+        return degree(memberId, inOffsets);
+    }
+
+    int nodeCount() {
+        return nodeIds.length;
+    }
+
+    int edgeCount() {
+        return outTargets.length;
+    }
+
+    // 배열이 차지하는 메모리 (byte)
+    long byteSize() {
+        return nodeIds.length * 8L
+                + (outOffsets.length + outTargets.length + inOffsets.length + inTargets.length) * 4L;
+    }
+
+    // 모든 간선 순회
+    void forEachEdge(EdgeVisitor visitor) {
+        for (int node = 0; node < nodeIds.length; node++) {
+            for (int i = outOffsets[node]; i < outOffsets[node + 1]; i++) {
+                visitor.visit(nodeIds[node], nodeIds[outTargets[i]]);
+            }
+        }
+    }
+
+    private long[] neighbours(long memberId, int[] offsets, int[] targets) {
+        int node = Arrays.binarySearch(nodeIds, memberId);
+        if (node < 0) {
+            return new long[0];
+        }
+        long[] result = new long[offsets[node + 1] - offsets[node]];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = nodeIds[targets[offsets[node] + i]];
+        }
+        return result;
+    }
+
+    private int degree(long memberId, int[] offsets) {
+        int node = Arrays.binarySearch(nodeIds, memberId);
+        return node < 0 ? 0 : offsets[node + 1] - offsets[node];
+    }
+
+    interface EdgeVisitor {
+
+        void visit(long followerId, long followingId);
+
+    }
+
+}
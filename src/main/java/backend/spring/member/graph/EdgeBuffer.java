@@ -0,0 +1,35 @@
+package backend.spring.member.graph;
+
+import java.util.Arrays;
+
+// (follower, following) 간선을 담는 가변 길이 long 배열 쌍
+final class EdgeBuffer {
+
+    private long[] followers = new long[1024];
+    private long[] followings = new long[1024];
+    private int size;
+
+    void add(long followerId, long followingId) {
+        if (size == followers.length) {
+            int capacity = size + (size >> 1);
+            followers = Arrays.copyOf(followers, capacity);
+            followings = Arrays.copyOf(followings, capacity);
+        }
+        followers[size] = followerId;
+        followings[size] = followingId;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long followerAt(int index) {
+        return followers[index];
+    }
+
+    long followingAt(int index) {
+        return followings[index];
+    }
+
+}
@@ -0,0 +1,272 @@
+package backend.spring.member.graph;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// following_set 메모리 그래프 (CSR + 변경분, 읽기는 잠금 없이 처리)
+@Component
+public class FollowGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraph.class);
+
+    private static final String LOAD_SQL = "select follower_id, following_id from following_set";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int compactThreshold;
+
+    // 쓰기, 재구축 직렬화
+    private final Object writeLock = new Object();
+    // 재구축 중 발생한 변경 (재구축된 CSR에 다시 적용)
+    private final List<long[]> pendingOps = new ArrayList<>();
+    private boolean rebuilding;
+
+    private volatile GraphState state = new GraphState(CsrGraph.EMPTY, new GraphDelta());
+    private volatile boolean ready;
+
+    public FollowGraph(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                       @Value("${follow.graph.compact-threshold:10000}") int compactThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.compactThreshold = compactThreshold;
+        Gauge.builder("follow.graph.edges", this, graph -> graph.edgeCount())
+                .description("팔로우 간선 수")
+                .register(meterRegistry);
+        Gauge.builder("follow.graph.nodes", this, graph -> graph.state.csr().nodeCount())
+                .description("CSR 그래프의 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("follow.graph.bytes", this, graph -> graph.state.csr().byteSize())
+                .description("CSR 배열이 차지하는 메모리 (byte)")
+                .register(meterRegistry);
+        Gauge.builder("follow.graph.delta.edges", this, graph -> graph.state.delta().size())
+                .description("CSR에 병합되지 않은 변경 간선 수")
+                .register(meterRegistry);
+    }
+
+    // 기동 시 DB에서 그래프 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild(snapshot -> {
+            EdgeBuffer edges = new EdgeBuffer();
+            // 전방향 커서로 한 행씩 읽기 (MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 스트리밍)
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(LOAD_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Integer.MIN_VALUE);
+                return statement;
+            }, (RowCallbackHandler) rs -> edges.add(rs.getLong(1), rs.getLong(2)));
+            return edges;
+        });
+        ready = true;
+        GraphState loaded = state;
+        logger.info("[FollowGraph] loaded {} members, {} edges ({} bytes)",
+                loaded.csr().nodeCount(), loaded.csr().edgeCount(), loaded.csr().byteSize());
+    }
+
+    // 변경분이 기준을 넘으면 CSR로 병합
+    @Scheduled(fixedDelayString = "${follow.graph.compact-interval-ms:10000}")
+    public void compact() {
+        if (!ready || state.delta().size() < compactThreshold) {
+            return;
+        }
+        rebuild(snapshot -> {
+            EdgeBuffer edges = new EdgeBuffer();
+            snapshot.delta().mergeInto(snapshot.csr(), edges);
+            return edges;
+        });
+    }
+
+    // 트랜잭션 커밋 후 팔로우 반영
+    public void followAfterCommit(Long followerId, Long followingId) {
+        afterCommit(() -> follow(followerId, followingId));
+    }
+
+    // 트랜잭션 커밋 후 언팔로우 반영
+    public void unfollowAfterCommit(Long followerId, Long followingId) {
+        afterCommit(() -> unfollow(followerId, followingId));
+    }
+
+    public void follow(long followerId, long followingId) {
+        synchronized (writeLock) {
+            GraphState current = state;
+            current.delta().follow(current.csr(), followerId, followingId);
+            if (rebuilding) {
+                pendingOps.add(new long[]{followerId, followingId, 1});
+            }
+        }
+    }
+
+    public void unfollow(long followerId, long followingId) {
+        synchronized (writeLock) {
+            GraphState current = state;
+            current.delta().unfollow(current.csr(), followerId, followingId);
+            if (rebuilding) {
+                pendingOps.add(new long[]{followerId, followingId, 0});
+            }
+        }
+    }
+
+    // DB 적재 완료 여부 (완료 전에는 DB 조회 사용)
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean follows(long followerId, long followingId) {
+        GraphState current = state;
+        if (current.delta().isAdded(followerId, followingId)) {
+            return true;
+        }
+        return !current.delta().isRemoved(followerId, followingId) && current.csr().has(followerId, followingId);
+    }
+
+    // 팔로잉 회원 id
+    public long[] followingIds(long memberId) {
+        GraphState current = state;
+        return merge(current.csr().following(memberId),
+                current.delta().addedFollowing(memberId), current.delta().removedFollowing(memberId));
+    }
+
+    // 팔로워 회원 id
+    public long[] followerIds(long memberId) {
+        GraphState current = state;
+        return merge(current.csr().followers(memberId),
+                current.delta().addedFollowers(memberId), current.delta().removedFollowers(memberId));
+    }
+
+    public int followingCount(long memberId) {
+        GraphState current = state;
+        return current.csr().followingCount(memberId)
+                + current.delta().addedFollowing(memberId).size() - current.delta().removedFollowing(memberId).size();
+    }
+
+    public int followerCount(long memberId) {
+        GraphState current = state;
+        return current.csr().followerCount(memberId)
+                + current.delta().addedFollowers(memberId).size() - current.delta().removedFollowers(memberId).size();
+    }
+
+    public long edgeCount() {
+        GraphState current = state;
+        return current.csr().edgeCount() + current.delta().netEdges();
+    }
+
+    // 팔로잉 회원이 팔로우하는 회원을 함께 아는 회원 수 순으로 최대 limit명 (본인, 이미 팔로우 중인 회원 제외)
+    public List<Long> rankFriendsOfFriends(long memberId, int limit) {
+        long[] followingIds = followingIds(memberId);
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        for (long followingId : followingIds) {
+            for (long candidateId : followingIds(followingId)) {
+                if (candidateId != memberId && Arrays.binarySearch(followingIds, candidateId) < 0) {
+                    mutualCounts.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 상위 limit명만 유지하는 최소 힙 (같은 수는 id 오름차순)
+        PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(
+                (a, b) -> a.getValue().equals(b.getValue())
+                        ? Long.compare(b.getKey(), a.getKey())
+                        : Integer.compare(a.getValue(), b.getValue()));
+        for (Map.Entry<Long, Integer> entry : mutualCounts.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(0, top.poll().getKey());
+        }
+        return ranked;
+    }
+
+    // 새 CSR 생성 후 교체 (생성 중 발생한 변경은 새 CSR 기준 변경분으로 다시 적용)
+    private void rebuild(Function<GraphState, EdgeBuffer> edgeSource) {
+        // 스냅샷과 재구축 시작 표시를 같은 잠금 안에서 처리하여 그 사이 변경이 누락되지 않도록 함
+        GraphState snapshot;
+        synchronized (writeLock) {
+            if (rebuilding) {
+                return;
+            }
+            rebuilding = true;
+            pendingOps.clear();
+            snapshot = state;
+        }
+        try {
+            CsrGraph csr = CsrGraph.build(edgeSource.apply(snapshot));
+            synchronized (writeLock) {
+                // 팔로우, 언팔로우는 멱등이므로 스냅샷에 일부 반영되었어도 순서대로 다시 적용하면 같은 결과
+                GraphDelta delta = new GraphDelta();
+                for (long[] op : pendingOps) {
+                    if (op[2] == 1) {
+                        delta.follow(csr, op[0], op[1]);
+                    } else {
+                        delta.unfollow(csr, op[0], op[1]);
+                    }
+                }
+                state = new GraphState(csr, delta);
+            }
+        } finally {
+            synchronized (writeLock) {
+                rebuilding = false;
+                pendingOps.clear();
+            }
+        }
+    }
+
+    // CSR 이웃 목록에 변경분 반영 (오름차순)
+    private static long[] merge(long[] base, Set<Long> added, Set<Long> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return base;
+        }
+        long[] merged = new long[base.length + added.size()];
+        int size = 0;
+        for (long id : base) {
+            if (!removed.contains(id)) {
+                merged[size++] = id;
+            }
+        }
+        for (long id : added) {
+            merged[size++] = id;
+        }
+        merged = Arrays.copyOf(merged, size);
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record GraphState(CsrGraph csr, GraphDelta delta) {
+    }
+
+}
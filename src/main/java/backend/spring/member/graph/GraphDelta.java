@@ -0,0 +1,120 @@
+package backend.spring.member.graph;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// CSR 그래프 이후 변경된 간선
+// 쓰기는 FollowGraph의 쓰기 잠금 안에서만 하고, 회원별 목록은 변경 시 그 목록만 복사한 불변 집합으로 교체하여
+// 읽기는 잠금 없이 처리 (변경 1건의 비용은 해당 회원의 변경 간선 수에 비례)
+final class GraphDelta {
+
+    private final Map<Long, Set<Long>> addedOut = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> addedIn = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> removedOut = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> removedIn = new ConcurrentHashMap<>();
+    private volatile int addedEdges;
+    private volatile int removedEdges;
+
+    // 팔로우 반영 (삭제 표시가 있으면 취소, CSR에 없으면 추가 표시)
+    void follow(CsrGraph csr, long followerId, long followingId) {
+        if (contains(removedOut, followerId, followingId)) {
+            without(removedOut, followerId, followingId);
+            without(removedIn, followingId, followerId);
+            removedEdges--;
+            return;
+        }
+        if (csr.has(followerId, followingId) || contains(addedOut, followerId, followingId)) {
+            return;
+        }
+        with(addedOut, followerId, followingId);
+        with(addedIn, followingId, followerId);
+        addedEdges++;
+    }
+
+    // 언팔로우 반영 (추가 표시가 있으면 취소, CSR에 있으면 삭제 표시)
+    void unfollow(CsrGraph csr, long followerId, long followingId) {
+        if (contains(addedOut, followerId, followingId)) {
+            without(addedOut, followerId, followingId);
+            without(addedIn, followingId, followerId);
+            addedEdges--;
+            return;
+        }
+        if (!csr.has(followerId, followingId) || contains(removedOut, followerId, followingId)) {
+            return;
+        }
+        with(removedOut, followerId, followingId);
+        with(removedIn, followingId, followerId);
+        removedEdges++;
+    }
+
+    boolean isAdded(long followerId, long followingId) {
+        return contains(addedOut, followerId, followingId);
+    }
+
+    boolean isRemoved(long followerId, long followingId) {
+        return contains(removedOut, followerId, followingId);
+    }
+
+    Set<Long> addedFollowing(long memberId) {
+        return addedOut.getOrDefault(memberId, Collections.emptySet());
+    }
+
+    Set<Long> removedFollowing(long memberId) {
+        return removedOut.getOrDefault(memberId, Collections.emptySet());
+    }
+
+    Set<Long> addedFollowers(long memberId) {
+        return addedIn.getOrDefault(memberId, Collections.emptySet());
+    }
+
+    Set<Long> removedFollowers(long memberId) {
+        return removedIn.getOrDefault(memberId, Collections.emptySet());
+    }
+
+    // 변경된 간선 수
+    int size() {
+        return addedEdges + removedEdges;
+    }
+
+    // 추가된 간선 수 - 삭제된 간선 수
+    int netEdges() {
+        return addedEdges - removedEdges;
+    }
+
+    // CSR 간선에 변경분을 합쳐 버퍼에 추가
+    // (병합 중 들어온 변경은 일부만 보일 수 있으나, FollowGraph가 재구축 중 변경을 새 CSR에 다시 적용하므로 결과는 같음)
+    void mergeInto(CsrGraph csr, EdgeBuffer edges) {
+        csr.forEachEdge((followerId, followingId) -> {
+            if (!isRemoved(followerId, followingId)) {
+                edges.add(followerId, followingId);
+            }
+        });
+        addedOut.forEach((followerId, followingIds) ->
+                followingIds.forEach(followingId -> edges.add(followerId, followingId)));
+    }
+
+    private static boolean contains(Map<Long, Set<Long>> map, long key, long value) {
+        Set<Long> values = map.get(key);
+        return values != null && values.contains(value);
+    }
+
+    private static void with(Map<Long, Set<Long>> map, long key, long value) {
+        Set<Long> values = new HashSet<>(map.getOrDefault(key, Collections.emptySet()));
+        values.add(value);
+        map.put(key, Collections.unmodifiableSet(values));
+    }
+
+    private static void without(Map<Long, Set<Long>> map, long key, long value) {
+        Set<Long> values = new HashSet<>(map.get(key));
+        values.remove(value);
+        if (values.isEmpty()) {
+            map.remove(key);
+        } else {
+            map.put(key, Collections.unmodifiableSet(values));
+        }
+    }
+
+}
@@ -1,20 +1,28 @@
 package backend.spring.member.model.entity;
 
 import backend.spring.member.model.Role;
+import backend.spring.security.cache.MemberCacheEvictionListener;
 import backend.spring.sns.model.entity.Comment;
 import backend.spring.sns.model.entity.Post;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -30,16 +38,20 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@EntityListeners(MemberCacheEvictionListener.class)
+@Table(name = "users", indexes = @Index(name = "idx_users_follower_count", columnList = "follower_count"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 풀링 방식 id 할당 (MySQL은 테이블로 시퀀스 대체, 50개 단위로 할당하여 INSERT 배치 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "users_seq", allocationSize = 50)
     @Schema(description = "회원 id")
     private Long memberId;
 
+    // 대소문자·악센트 무시 콜레이션(utf8mb4_0900_ai_ci)으로 비교 (바꾸면 MemberNames도 함께 변경)
     @Column(unique = true, name = "username", length = 10)
     @Schema(description = "이름")
     private String name;
@@ -55,12 +67,28 @@ public class Member {
     @Column(name = "roles")
     private List<Role> roles = new ArrayList<>();
 
+    // 팔로워 수 (팔로우 시 UPDATE 문으로 증감하므로 엔티티 변경 시 덮어쓰지 않음)
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    @Schema(description = "팔로워 수")
+    private long followerCount;
+
+    // 팔로잉 수 (팔로우 시 UPDATE 문으로 증감하므로 엔티티 변경 시 덮어쓰지 않음)
+    @Column(name = "following_count", nullable = false, updatable = false)
+    @Schema(description = "팔로잉 수")
+    private long followingCount;
+
+    // 게시물 수 (게시물 등록 시 UPDATE 문으로 증가하므로 엔티티 변경 시 덮어쓰지 않음)
+    @Column(name = "post_count", nullable = false, updatable = false)
+    @Schema(description = "게시물 수")
+    private long postCount;
+
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private List<Post> posts = new ArrayList<>();
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private List<Comment> comments = new ArrayList<>();
 
+    // (follower_id, following_id) 기본 키로 중복 팔로우 방지
     @ManyToMany
     @JoinTable(
             name = "following_set",
@@ -69,6 +97,11 @@ public class Member {
     )
     private Set<Member> followingSet = new HashSet<>();
 
+    // 로드(저장) 시점의 이름 (이름 변경 시 UserDetails 캐시의 이전 항목 제거에 사용)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String loadedName;
+
     @Builder
     public Member(String name, String password, List<Role> roles) {
         this.name = name;
@@ -76,4 +109,11 @@ public class Member {
         this.roles = roles;
     }
 
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberLoadedName() {
+        this.loadedName = name;
+    }
+
 }
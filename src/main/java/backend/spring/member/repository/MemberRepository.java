@@ -1,12 +1,110 @@
 package backend.spring.member.repository;
 
 import backend.spring.member.model.entity.Member;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByName(String name);
     Optional<Member> findByMemberId(Long memberId);
+    boolean existsByName(String name);
 
-}
\ No newline at end of file
+    // 이름으로 회원 id 조회
+    @Query("select m.memberId from Member m where m.name = :name")
+    Optional<Long> findMemberIdByName(@Param("name") String name);
+
+    // 팔로우 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+    @Modifying
+    @Query(value = "insert ignore into following_set (follower_id, following_id) values (:followerId, :followingId)",
+            nativeQuery = true)
+    int insertFollowing(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 팔로우 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "delete from following_set where follower_id = :followerId and following_id = :followingId",
+            nativeQuery = true)
+    int deleteFollowing(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 팔로우 추가, 삭제 시 팔로잉 수와 팔로워 수를 함께 증감
+    @Modifying
+    @Query(value = "update users set "
+            + "following_count = following_count + case when member_id = :followerId then :delta else 0 end, "
+            + "follower_count = follower_count + case when member_id = :followingId then :delta else 0 end "
+            + "where member_id in (:followerId, :followingId)", nativeQuery = true)
+    int adjustFollowCounts(@Param("followerId") Long followerId, @Param("followingId") Long followingId,
+                           @Param("delta") int delta);
+
+    // 게시물 수 증가
+    @Modifying
+    @Query(value = "update users set post_count = post_count + 1 where member_id = :memberId", nativeQuery = true)
+    int incrementPostCount(@Param("memberId") Long memberId);
+
+    // 팔로잉 회원 id 목록
+    @Query("select f.memberId from Member m join m.followingSet f where m.memberId = :memberId")
+    List<Long> findFollowingIds(@Param("memberId") Long memberId);
+
+    // 주어진 회원 중 팔로잉 중인 회원 id 목록
+    @Query("select f.memberId from Member m join m.followingSet f where m.memberId = :memberId and f.memberId in :memberIds")
+    List<Long> findFollowingIdsIn(@Param("memberId") Long memberId, @Param("memberIds") Collection<Long> memberIds);
+
+    // 팔로워 회원 id 목록
+    @Query("select m.memberId from Member m join m.followingSet f where f.memberId = :memberId")
+    List<Long> findFollowerIds(@Param("memberId") Long memberId);
+
+    // 팔로워 수
+    @Query("select count(m) from Member m join m.followingSet f where f.memberId = :memberId")
+    long countFollowers(@Param("memberId") Long memberId);
+
+    // 팔로워 수가 기준 이상인 회원 id 목록
+    @Query("select f.memberId from Member m join m.followingSet f group by f.memberId having count(m) >= :threshold")
+    List<Long> findCelebrityIds(@Param("threshold") long threshold);
+
+    // 팔로잉 회원이 팔로우하는 회원을 함께 아는 회원 수 순으로 조회 (본인, 이미 팔로우 중인 회원 제외)
+    // [member_id, username, avatar_url, mutual_count]
+    @Query(value = "select u.member_id, u.username, u.avatar_url, count(*) as mutual_count "
+            + "from following_set f1 "
+            + "join following_set f2 on f2.follower_id = f1.following_id "
+            + "join users u on u.member_id = f2.following_id "
+            + "where f1.follower_id = :memberId and f2.following_id <> :memberId "
+            + "and not exists (select 1 from following_set f3 "
+            + "where f3.follower_id = :memberId and f3.following_id = f2.following_id) "
+            + "group by u.member_id, u.username, u.avatar_url "
+            + "order by mutual_count desc, u.member_id "
+            + "limit :limit", nativeQuery = true)
+    List<Object[]> findFriendOfFriendSuggestions(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // 팔로워 수 순 인기 회원 조회 (본인, 이미 팔로우 중인 회원 제외)
+    // [member_id, username, avatar_url, follower_count]
+    @Query(value = "select u.member_id, u.username, u.avatar_url, u.follower_count "
+            + "from users u "
+            + "where u.follower_count > 0 and u.member_id <> :memberId "
+            + "and not exists (select 1 from following_set f3 "
+            + "where f3.follower_id = :memberId and f3.following_id = u.member_id) "
+            + "order by u.follower_count desc, u.member_id "
+            + "limit :limit", nativeQuery = true)
+    List<Object[]> findPopularSuggestions(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+    // id로 추천 회원 정보 조회
+    // [member_id, username, avatar_url, 0]
+    @Query(value = "select u.member_id, u.username, u.avatar_url, 0 from users u where u.member_id in :memberIds",
+            nativeQuery = true)
+    List<Object[]> findSuggestionsByIds(@Param("memberIds") Collection<Long> memberIds);
+
+    // 최근 가입 회원 조회 (팔로우 관계가 없는 초기 상태 대비, 본인 및 이미 팔로우 중인 회원 제외)
+    // [member_id, username, avatar_url, 0]
+    @Query(value = "select u.member_id, u.username, u.avatar_url, 0 "
+            + "from users u "
+            + "where u.member_id <> :memberId "
+            + "and not exists (select 1 from following_set f3 "
+            + "where f3.follower_id = :memberId and f3.following_id = u.member_id) "
+            + "order by u.member_id desc "
+            + "limit :limit", nativeQuery = true)
+    List<Object[]> findRecentSuggestions(@Param("memberId") Long memberId, @Param("limit") int limit);
+
+}
@@ -1,6 +1,8 @@
 package backend.spring.member.service;
 
 import backend.spring.member.dto.request.MemberSignupRequest;
+import backend.spring.member.dto.response.NameAvailabilityResponse;
+import backend.spring.member.dto.response.ProfileResponse;
 import backend.spring.member.dto.response.SuggestionResponse;
 import org.springframework.stereotype.Service;
 
@@ -11,6 +13,10 @@ public interface MemberService {
 
     void registerUser(MemberSignupRequest signupParam);
 
+    NameAvailabilityResponse checkNameAvailability(String memberName);
+
+    ProfileResponse getProfile(Long memberId, String memberName);
+
     List<SuggestionResponse> getSuggestions(Long memberId);
 
     void followMember(Long memberId, String suggestionName);
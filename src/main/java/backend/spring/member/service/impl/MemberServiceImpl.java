@@ -1,24 +1,34 @@
 package backend.spring.member.service.impl;
 
 import static backend.spring.member.exception.constants.MemberExceptionMessages.DUPLICATE_NAME;
-import static backend.spring.member.exception.constants.MemberExceptionMessages.MEMBER_ID_NOT_FOUND;
 import static backend.spring.member.exception.constants.MemberExceptionMessages.MEMBER_NAME_NOT_FOUND;
 
 import backend.spring.member.exception.DuplicateNameException;
 import backend.spring.member.exception.MemberNotFoundException;
 import backend.spring.member.dto.request.MemberSignupRequest;
+import backend.spring.member.bloom.UsernameBloomFilter;
+import backend.spring.member.dto.response.NameAvailabilityResponse;
+import backend.spring.member.dto.response.ProfileResponse;
 import backend.spring.member.dto.response.SuggestionResponse;
+import backend.spring.member.dto.response.mapper.ProfileResponseMapper;
 import backend.spring.member.dto.response.mapper.SuggestionResponseMapper;
+import backend.spring.member.graph.FollowGraph;
 import backend.spring.member.model.entity.Member;
 import backend.spring.member.model.Role;
 import backend.spring.member.repository.MemberRepository;
 import backend.spring.member.service.MemberService;
+import backend.spring.sns.service.TimelineService;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,10 +44,21 @@ public class MemberServiceImpl implements MemberService {
     private final PasswordEncoder passwordEncoder;
     @Autowired
     private final SuggestionResponseMapper suggestionResponseMapper;
+    @Autowired
+    private final ProfileResponseMapper profileResponseMapper;
+    @Autowired
+    private final TimelineService timelineService;
+    @Autowired
+    private final FollowGraph followGraph;
+    @Autowired
+    private final UsernameBloomFilter usernameBloomFilter;
 
     @Value("${avatar.access.url}")
     private String accessUrl;
 
+    @Value("${member.suggestion.size:20}")
+    private int suggestionSize;
+
     // 회원 가입
     @Override
     public void registerUser(MemberSignupRequest signupParam) {
@@ -53,17 +74,38 @@ public class MemberServiceImpl implements MemberService {
                 .password(encodedPassword)
                 .roles(Collections.singletonList(Role.USER))
                 .build();
-        memberRepository.save(member);
+        saveMember(member);
+        usernameBloomFilter.put(member.getName());
 
         // 아바타 이미지 경로 저장
         String avatarUrl = generateAvatarUrl(member.getMemberId());
         member.setAvatarUrl(avatarUrl);
     }
 
+    // 이름 사용 가능 여부 조회
+    @Override
+    @Transactional(readOnly = true)
+    public NameAvailabilityResponse checkNameAvailability(String memberName) {
+        return new NameAvailabilityResponse(memberName, !isNameTaken(memberName));
+    }
+
     // 이름의 중복 검증
     private void validateDuplicateName(String username){
-        Optional<Member> findMember = memberRepository.findByName(username);
-        if (findMember.isPresent()) {
+        if (isNameTaken(username)) {
+            throw new DuplicateNameException(DUPLICATE_NAME.getMessage());
+        }
+    }
+
+    // 블룸 필터에 없으면 DB 조회 없이 사용 가능으로 판단
+    private boolean isNameTaken(String username) {
+        return usernameBloomFilter.mightContain(username) && memberRepository.existsByName(username);
+    }
+
+    // 회원 저장 (동시 가입은 이름 유니크 제약으로 최종 판단)
+    private void saveMember(Member member) {
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
             throw new DuplicateNameException(DUPLICATE_NAME.getMessage());
         }
     }
@@ -74,60 +116,112 @@ public class MemberServiceImpl implements MemberService {
         return avatarUrl;
     }
 
-    // 추천 회원 리스트 반환
+    // 회원 프로필 조회 (게시물, 팔로워, 팔로잉 수는 회원 행의 개수 컬럼에서 읽음)
     @Override
-    public List<SuggestionResponse> getSuggestions(Long memberId) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
+    @Transactional(readOnly = true)
+    public ProfileResponse getProfile(Long memberId, String memberName) {
+        Member member = memberRepository.findByName(memberName)
+                .orElseThrow(() -> new MemberNotFoundException(MEMBER_NAME_NOT_FOUND.getMessage()));
+
+        // 프로필 응답 DTO 변환
+        ProfileResponse profileResponse = profileResponseMapper.toProfileResponse(member,
+                isFollowing(memberId, member.getMemberId()));
+        return profileResponse;
+    }
+
+    // 팔로우 여부 (그래프 적재 전에는 DB 조회)
+    private boolean isFollowing(Long memberId, Long followingId) {
+        if (followGraph.isReady()) {
+            return followGraph.follows(memberId, followingId);
+        }
+        return !memberRepository.findFollowingIdsIn(memberId, List.of(followingId)).isEmpty();
+    }
 
-        // 모든 회원 반환
-        List<Member> members = memberRepository.findAll();
+    // 추천 회원 리스트 반환 (친구의 친구를 함께 아는 회원 수 순으로, 부족하면 인기 회원, 최근 가입 회원 순으로 채움)
+    @Override
+    @Transactional(readOnly = true)
+    public List<SuggestionResponse> getSuggestions(Long memberId) {
+        Map<Long, Object[]> suggestions = new LinkedHashMap<>();
+        addSuggestions(suggestions, findFriendOfFriendSuggestions(memberId));
+        if (suggestions.size() < suggestionSize) {
+            addSuggestions(suggestions, memberRepository.findPopularSuggestions(memberId, suggestionSize));
+        }
+        if (suggestions.size() < suggestionSize) {
+            addSuggestions(suggestions, memberRepository.findRecentSuggestions(memberId, suggestionSize));
+        }
 
         // 추천 회원 응답 DTO 변환
-        List<SuggestionResponse> SuggestionResponses = suggestionResponseMapper.toSuggestionResponses(members, currentMember);
+        List<SuggestionResponse> SuggestionResponses = suggestionResponseMapper.toSuggestionResponses(suggestions.values());
         return SuggestionResponses;
     }
 
-    // 회원 팔로우
+    // 친구의 친구 추천 (그래프 적재 전에는 DB 조회)
+    private List<Object[]> findFriendOfFriendSuggestions(Long memberId) {
+        if (!followGraph.isReady()) {
+            return memberRepository.findFriendOfFriendSuggestions(memberId, suggestionSize);
+        }
+        List<Long> rankedIds = followGraph.rankFriendsOfFriends(memberId, suggestionSize);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        // 그래프 순위 순서로 회원 정보 정렬
+        Map<Long, Object[]> rows = memberRepository.findSuggestionsByIds(rankedIds).stream()
+                .collect(Collectors.toMap(row -> ((Number) row[0]).longValue(), Function.identity()));
+        return rankedIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 중복을 제외하고 최대 개수까지 추가
+    private void addSuggestions(Map<Long, Object[]> suggestions, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (suggestions.size() >= suggestionSize) {
+                return;
+            }
+            suggestions.putIfAbsent(((Number) row[0]).longValue(), row);
+        }
+    }
+
+    // 회원 팔로우 (중복 요청은 무시)
     @Override
     public void followMember(Long memberId, String suggestionMemberName) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
-
-        //  추천 회원 조회
-        Member suggestionMember = findSuggestionMember(suggestionMemberName);
+        // 추천 회원 id 조회
+        Long followingId = findMemberIdByName(suggestionMemberName);
 
         // 팔로잉 목록에 추가
-        currentMember.getFollowingSet().add(suggestionMember);
-        memberRepository.save(currentMember);
+        if (memberRepository.insertFollowing(memberId, followingId) == 0) {
+            return;
+        }
+        memberRepository.adjustFollowCounts(memberId, followingId, 1);
+        followGraph.followAfterCommit(memberId, followingId);
+
+        // 타임라인에 팔로우한 회원의 게시물 채워 넣기
+        timelineService.backfill(memberId, followingId);
     }
 
-    // 회원 언팔로우
+    // 회원 언팔로우 (중복 요청은 무시)
     @Override
     public void unfollowMember(Long memberId, String suggestionMemberName) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
-
-        //  추천 회원 조회
-        Member suggestionMember = findSuggestionMember(suggestionMemberName);
+        // 추천 회원 id 조회
+        Long followingId = findMemberIdByName(suggestionMemberName);
 
         // 팔로잉 목록에서 제거
-        currentMember.getFollowingSet().remove(suggestionMember);
-        memberRepository.save(currentMember);
-    }
+        if (memberRepository.deleteFollowing(memberId, followingId) == 0) {
+            return;
+        }
+        memberRepository.adjustFollowCounts(memberId, followingId, -1);
+        followGraph.unfollowAfterCommit(memberId, followingId);
 
-    // 이름으로 찾아서 반환
-    private Member findSuggestionMember(String suggestionMemberName){
-        Member suggestionMember = memberRepository.findByName(suggestionMemberName)
-                .orElseThrow(() -> new MemberNotFoundException(MEMBER_NAME_NOT_FOUND.getMessage()));
-        return suggestionMember;
+        // 타임라인에서 언팔로우한 회원의 게시물 제거
+        timelineService.prune(memberId, followingId);
     }
 
-    // id로 찿아서 반환
-    private Member findMember(Long memberId){
-        Member findMember = memberRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new MemberNotFoundException(MEMBER_ID_NOT_FOUND.getMessage()));
-        return findMember;
+    // 이름으로 id 찾아서 반환
+    private Long findMemberIdByName(String memberName){
+        Long memberId = memberRepository.findMemberIdByName(memberName)
+                .orElseThrow(() -> new MemberNotFoundException(MEMBER_NAME_NOT_FOUND.getMessage()));
+        return memberId;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package backend.spring.security.cache;
+
+import backend.spring.member.model.entity.Member;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 회원 이름, 비밀번호, 권한 변경 시 UserDetails 캐시 제거
+@Component
+public class MemberCacheEvictionListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+    public MemberCacheEvictionListener(UserDetailsCache userDetailsCache) {
+        this.userDetailsCache = userDetailsCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        // 엔티티 콜백보다 먼저 호출되므로 loadedName은 아직 변경 전 이름
+        String loadedName = member.getLoadedName();
+        String name = member.getName();
+        userDetailsCache.invalidate(loadedName, name);
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsCache.invalidate(loadedName, name);
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package backend.spring.security.cache;
+
+import backend.spring.cache.BoundedTtlCache;
+import backend.spring.member.MemberNames;
+import backend.spring.security.model.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 이름별 CustomUserDetails 캐시 (회원 변경 시 MemberCacheEvictionListener가 제거)
+@Component
+public class UserDetailsCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final BoundedTtlCache<String, CustomUserDetails> cache;
+    // 키 묶음별 제거 횟수 (DB 조회 중 커밋된 변경으로 제거된 값을 다시 넣지 않도록 조회 전후 비교)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${security.user-cache.max-entries:10000}") int maxEntries,
+                            @Value("${security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>("user.details", maxEntries, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    public CustomUserDetails get(String name) {
+        return cache.get(key(name));
+    }
+
+    // DB 조회 전에 호출하여 put에 전달
+    public long generation(String name) {
+        return generations.get(stripe(key(name)));
+    }
+
+    // 조회 시작 이후 같은 키가 제거되지 않았을 때만 저장
+    // 저장 후 다시 확인하여, 확인과 저장 사이에 제거가 끼어든 경우에도 이전 값이 남지 않도록 함
+    public void put(CustomUserDetails userDetails, long generation) {
+        String key = key(userDetails.getUsername());
+        int stripe = stripe(key);
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        cache.put(key, userDetails);
+        if (generations.get(stripe) != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    // 현재 이름과 로드 시점 이름의 항목 제거 (이름이 바뀐 경우 이전 이름의 항목도 제거, 전체 순회 없음)
+    public void invalidate(String loadedName, String name) {
+        invalidate(key(name));
+        if (loadedName != null && !key(loadedName).equals(key(name))) {
+            invalidate(key(loadedName));
+        }
+    }
+
+    // 세대를 먼저 올린 뒤 제거 (진행 중인 put이 세대 변경을 보거나 이 제거가 put 이후에 실행됨)
+    private void invalidate(String key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    private static int stripe(String key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+
+    // DB 비교와 같이 대소문자·악센트를 무시 (다른 표기로 로그인해도 같은 항목을 사용하고 제거)
+    private static String key(String name) {
+        return MemberNames.collationKey(name);
+    }
+
+}
@@ -2,9 +2,15 @@ package backend.spring.security.config;
 
 import backend.spring.security.config.filter.JwtAuthenticationFilter;
 import backend.spring.security.config.filter.JwtAuthorizationFilter;
+import backend.spring.security.config.filter.RateLimitFilter;
+import backend.spring.security.login.LoginExecutor;
+import backend.spring.security.ratelimit.RateLimiter;
+import backend.spring.security.service.RefreshTokenService;
+import backend.spring.security.utils.CostAwareBCryptPasswordEncoder;
 import backend.spring.security.utils.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,7 +19,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -24,6 +29,15 @@ public class SecurityConfig {
 
     @Autowired
     private final TokenProvider tokenProvider;
+    @Autowired
+    private final LoginExecutor loginExecutor;
+    @Autowired
+    private final RefreshTokenService refreshTokenService;
+    @Autowired
+    private final RateLimiter rateLimiter;
+
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
 
     // 보안 필터 체인 구성
     @Bean
@@ -42,7 +56,9 @@ public class SecurityConfig {
                 .and()
                 .authorizeRequests()
                 // 회원가입
-                .requestMatchers("/api/users").permitAll()
+                .requestMatchers("/api/users", "/api/users/availability").permitAll()
+                // 토큰 갱신 (접근 토큰 만료 후 호출)
+                .requestMatchers("/api/auth/refresh", "/api/auth/logout").permitAll()
                 // 파일시스템 이미지
                 .requestMatchers("/users/avatars/**", "/sns/photos/**").permitAll()
                 // Swagger
@@ -58,10 +74,10 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
-    // 비밀번호 인코더
+    // 비밀번호 인코더 (cost가 바뀌면 로그인 시 재해시)
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new CostAwareBCryptPasswordEncoder(bcryptStrength);
     }
 
     // 커스텀 필터 설정
@@ -69,13 +85,16 @@ public class SecurityConfig {
         @Override
         public void configure(HttpSecurity http) throws Exception {
             AuthenticationManager authenticationManager = http.getSharedObject(AuthenticationManager.class);
-            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, tokenProvider);
+            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, refreshTokenService, loginExecutor);
             JwtAuthorizationFilter jwtAuthorizationFilter = new JwtAuthorizationFilter(authenticationManager, tokenProvider);
+            RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter);
             // 로그인 경로
             jwtAuthenticationFilter.setFilterProcessesUrl("/api/users/login");
             http
                     .addFilter(jwtAuthenticationFilter)
-                    .addFilter(jwtAuthorizationFilter);
+                    .addFilter(jwtAuthorizationFilter)
+                    // 인증 정보가 채워진 뒤 요청 제한
+                    .addFilterAfter(rateLimitFilter, JwtAuthorizationFilter.class);
         }
     }
 
@@ -2,8 +2,10 @@ package backend.spring.security.config.filter;
 
 import backend.spring.member.dto.request.MemberLoginRequest;
 import backend.spring.security.dto.TokenResponse;
+import backend.spring.security.exception.LoginRejectedException;
+import backend.spring.security.login.LoginExecutor;
 import backend.spring.security.model.CustomUserDetails;
-import backend.spring.security.utils.TokenProvider;
+import backend.spring.security.service.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,6 +13,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -22,7 +26,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
-    private final TokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginExecutor loginExecutor;
 
     // 인증 시도
     @Override
@@ -36,8 +41,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
             UsernamePasswordAuthenticationToken authenticationToken =
                     new UsernamePasswordAuthenticationToken(loginParam.name(), loginParam.password());
 
-            // 인증
-            return authenticationManager.authenticate(authenticationToken);
+            // 로그인 전용 풀에서 인증 (비밀번호 해시 검증)
+            return loginExecutor.execute(() -> authenticationManager.authenticate(authenticationToken));
+        } catch (LoginRejectedException e) {
+            // 풀 포화 시 즉시 거절
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(loginExecutor.getRetryAfterSeconds()));
+            return null;
         } catch (Exception e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return null;
@@ -47,10 +57,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     // 인증 성공 시
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
-        // 토큰 생성
+        // 접근 토큰 및 갱신 토큰 생성
         CustomUserDetails userDetails = (CustomUserDetails) authResult.getPrincipal();
-        String jwt = tokenProvider.generateToken(userDetails);
-        TokenResponse tokenResponse = new TokenResponse(jwt);
+        TokenResponse tokenResponse = refreshTokenService.issue(userDetails);
 
         // response body에 토큰 DTO 반환
         ObjectMapper objectMapper = new ObjectMapper();
@@ -60,4 +69,4 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         response.getWriter().write(responseBody);
     }
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package backend.spring.security.config.filter;
 
 import backend.spring.security.utils.TokenProvider;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,11 +37,14 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
         // 헤더에서 토큰 정보 추출
         String token = request.getHeader(HEADER_STRING).replace(TOKEN_PREFIX,"");
 
-        // 토큰 검증
-        tokenProvider.validateToken(token);
-
-        // 토큰으로 부터 인증 정보 추출
-        Authentication authentication = tokenProvider.extractAuthentication(token);
+        // 토큰 검증 및 인증 정보 추출 (만료, 폐기된 토큰은 인증 없이 진행하여 토큰 갱신 경로 허용)
+        Authentication authentication;
+        try {
+            authentication = tokenProvider.extractAuthentication(token);
+        } catch (JwtException e) {
+            chain.doFilter(request, response);
+            return;
+        }
         // 강제로 시큐리티의 세션에 접근하여 값 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
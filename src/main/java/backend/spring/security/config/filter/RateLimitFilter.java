@@ -0,0 +1,62 @@
+package backend.spring.security.config.filter;
+
+import static backend.spring.security.exception.constants.SecurityExceptionMessages.RATE_LIMITED;
+
+import backend.spring.security.exception.dto.CustomErrorResponse;
+import backend.spring.security.model.CustomUserDetails;
+import backend.spring.security.model.JwtPrincipal;
+import backend.spring.security.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 요청 제한 필터 (인가 필터 뒤에서 회원 id, 비로그인은 IP 기준으로 제한)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long waitMillis = rateLimiter.tryAcquire(request, clientKey(request));
+        if (waitMillis == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // 한도 초과 시 재시도 시각 안내
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(new CustomErrorResponse(RATE_LIMITED.getMessage())));
+    }
+
+    // 제한 단위 (회원 id, 비로그인은 IP)
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+                return "m" + jwtPrincipal.memberId();
+            }
+            if (authentication.getPrincipal() instanceof CustomUserDetails customUserDetails) {
+                return "m" + customUserDetails.member().getMemberId();
+            }
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+}
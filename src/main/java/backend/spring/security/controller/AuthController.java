@@ -0,0 +1,49 @@
+package backend.spring.security.controller;
+
+import backend.spring.security.dto.RefreshTokenRequest;
+import backend.spring.security.dto.TokenResponse;
+import backend.spring.security.service.RefreshTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    @Autowired
+    private final RefreshTokenService refreshTokenService;
+
+    // 토큰 갱신
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "토큰 갱신 성공"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 재사용된 갱신 토큰")})
+    @Operation(summary = "토큰 갱신")
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshParam) {
+        // 새 접근 토큰과 갱신 토큰 반환
+        TokenResponse tokenResponse = refreshTokenService.refresh(refreshParam.refreshToken());
+        return ResponseEntity.ok(tokenResponse);
+    }
+
+    // 로그아웃
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "로그아웃 성공")})
+    @Operation(summary = "로그아웃")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest refreshParam) {
+        // 갱신 토큰 계열 폐기
+        refreshTokenService.revoke(refreshParam.refreshToken());
+        return ResponseEntity.ok().build();
+    }
+
+}
@@ -0,0 +1,12 @@
+package backend.spring.security.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "토큰 갱신 요청 DTO")
+public record RefreshTokenRequest(@NotBlank String refreshToken) {
+
+    public RefreshTokenRequest {
+    }
+
+}
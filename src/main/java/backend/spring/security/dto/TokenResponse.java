@@ -1,6 +1,6 @@
 package backend.spring.security.dto;
 
-public record TokenResponse(String token) {
+public record TokenResponse(String token, String refreshToken) {
 
     public TokenResponse{
     }
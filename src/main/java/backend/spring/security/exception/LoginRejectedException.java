@@ -0,0 +1,7 @@
+package backend.spring.security.exception;
+
+import lombok.experimental.StandardException;
+
+@StandardException
+public class LoginRejectedException extends RuntimeException {
+}
@@ -0,0 +1,20 @@
+package backend.spring.security.exception;
+
+import backend.spring.security.exception.dto.CustomErrorResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+
+@ControllerAdvice
+@RestController
+public class SecurityExceptionHandler {
+
+    // 토큰 갱신 실패 예외
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<CustomErrorResponse> handleInvalidRefreshTokenException(InvalidRefreshTokenException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new CustomErrorResponse(e.getMessage()));
+    }
+
+}
@@ -0,0 +1,21 @@
+package backend.spring.security.exception.constants;
+
+public enum SecurityExceptionMessages {
+
+    LOGIN_OVERLOADED("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_REFRESH_TOKEN("유효하지 않은 갱신 토큰입니다."),
+    REFRESH_TOKEN_ALREADY_ROTATED("이미 갱신된 토큰입니다. 새로 발급된 토큰을 사용해주세요."),
+    REFRESH_TOKEN_REUSED("이미 사용된 갱신 토큰입니다. 다시 로그인해주세요."),
+    RATE_LIMITED("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+
+    private final String message;
+
+    SecurityExceptionMessages(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -0,0 +1,4 @@
+package backend.spring.security.exception.dto;
+
+public record CustomErrorResponse(String errorMessage){
+}
@@ -0,0 +1,92 @@
+package backend.spring.security.login;
+
+import static backend.spring.security.exception.constants.SecurityExceptionMessages.LOGIN_OVERLOADED;
+
+import backend.spring.security.exception.LoginRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 로그인 비밀번호 검증 전용 스레드 풀 (대기열이 가득 차면 즉시 거절하여 요청 스레드 보호)
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public LoginExecutor(MeterRegistry meterRegistry,
+                         @Value("${security.login.pool-size:4}") int poolSize,
+                         @Value("${security.login.queue-capacity:64}") int queueCapacity,
+                         @Value("${security.login.timeout-ms:2000}") long timeoutMillis,
+                         @Value("${security.login.retry-after-seconds:1}") long retryAfterSeconds) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejected = Counter.builder("security.login.rejected")
+                .description("풀 포화로 거절된 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("security.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("검증 중인 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("security.login.queued", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 로그인 수")
+                .register(meterRegistry);
+    }
+
+    // 로그인 풀에서 실행 후 결과 반환 (포화 또는 시간 초과 시 LoginRejectedException)
+    public <T> T execute(Callable<T> task) throws Exception {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginRejectedException(LOGIN_OVERLOADED.getMessage());
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new LoginRejectedException(LOGIN_OVERLOADED.getMessage());
+        } catch (ExecutionException e) {
+            // 인증 실패 예외 등은 그대로 전달
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
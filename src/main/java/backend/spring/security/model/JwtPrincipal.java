@@ -0,0 +1,16 @@
+package backend.spring.security.model;
+
+import java.security.Principal;
+
+// 토큰 클레임으로 만든 인증 주체 (요청마다 회원을 조회하지 않음)
+public record JwtPrincipal(Long memberId, String name) implements Principal {
+
+    public JwtPrincipal {
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+}
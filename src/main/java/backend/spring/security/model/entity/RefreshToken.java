@@ -0,0 +1,63 @@
+package backend.spring.security.model.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "갱신 토큰")
+@Entity
+@Getter
+@Table(name = "refresh_tokens", indexes = {
+        // 재사용 감지 시 같은 계열 토큰 일괄 폐기
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        // 만료 토큰 정리
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    // 토큰 원문 대신 SHA-256 해시만 저장
+    @Id
+    @Column(name = "token_hash", length = 64)
+    @Schema(description = "토큰 해시")
+    private String tokenHash;
+
+    @Column(name = "member_id", nullable = false)
+    @Schema(description = "회원 id")
+    private Long memberId;
+
+    // 로그인 1회에서 이어지는 갱신 토큰 계열 (접근 토큰에도 포함)
+    @Column(name = "family_id", nullable = false, length = 36)
+    @Schema(description = "토큰 계열 id")
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    @Schema(description = "만료 시각")
+    private LocalDateTime expiresAt;
+
+    // 갱신에 사용된 시각 (사용된 토큰이 다시 오면 탈취로 간주)
+    @Column(name = "used_at")
+    @Schema(description = "사용 시각")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    @Schema(description = "폐기 시각")
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RefreshToken(String tokenHash, Long memberId, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.memberId = memberId;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+}
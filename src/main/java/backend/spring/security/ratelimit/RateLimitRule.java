@@ -0,0 +1,21 @@
+package backend.spring.security.ratelimit;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+// 경로별 요청 한도 (버스트 허용량과 초당 충전량)
+public record RateLimitRule(String name, AntPathRequestMatcher matcher, int capacity, int tokensPerSecond) {
+
+    public RateLimitRule {
+        if (capacity <= 0 || (long) capacity * TokenBucket.MILLI_TOKENS > TokenBucket.TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond must be positive: " + tokensPerSecond);
+        }
+    }
+
+    long capacityMilli() {
+        return capacity * TokenBucket.MILLI_TOKENS;
+    }
+
+}
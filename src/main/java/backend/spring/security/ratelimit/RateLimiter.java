@@ -0,0 +1,96 @@
+package backend.spring.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.stereotype.Component;
+
+// 회원(비로그인은 IP)별, 경로별 토큰 버킷 요청 제한
+@Component
+public class RateLimiter {
+
+    private final List<RateLimitRule> rules;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejected;
+    private final long idleMillis;
+    private final long startedAt = System.nanoTime();
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${security.rate-limit.search.capacity:20}") int searchCapacity,
+                       @Value("${security.rate-limit.search.tokens-per-second:5}") int searchTokensPerSecond,
+                       @Value("${security.rate-limit.like.capacity:30}") int likeCapacity,
+                       @Value("${security.rate-limit.like.tokens-per-second:10}") int likeTokensPerSecond,
+                       @Value("${security.rate-limit.default.capacity:200}") int defaultCapacity,
+                       @Value("${security.rate-limit.default.tokens-per-second:50}") int defaultTokensPerSecond,
+                       @Value("${security.rate-limit.idle-ms:600000}") long idleMillis) {
+        // 먼저 일치하는 규칙 하나만 적용
+        this.rules = List.of(
+                new RateLimitRule("search", new AntPathRequestMatcher("/api/posts/search/**", HttpMethod.POST.name()),
+                        searchCapacity, searchTokensPerSecond),
+                new RateLimitRule("like", new AntPathRequestMatcher("/api/posts/*/like"),
+                        likeCapacity, likeTokensPerSecond),
+                new RateLimitRule("default", new AntPathRequestMatcher("/api/**"),
+                        defaultCapacity, defaultTokensPerSecond));
+        this.idleMillis = idleMillis;
+        this.rejected = rules.stream().collect(Collectors.toMap(RateLimitRule::name, rule ->
+                Counter.builder("security.rate-limit.rejected")
+                        .description("요청 한도 초과로 거절된 요청 수")
+                        .tag("route", rule.name())
+                        .register(meterRegistry)));
+        Gauge.builder("security.rate-limit.buckets", buckets, ConcurrentHashMap::size)
+                .description("사용 중인 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    // 요청 허용 여부 (허용 시 0, 초과 시 재시도까지 남은 ms, 제한 대상이 아니면 0)
+    public long tryAcquire(HttpServletRequest request, String clientKey) {
+        RateLimitRule rule = match(request);
+        if (rule == null) {
+            return 0;
+        }
+
+        long now = now();
+        TokenBucket bucket = buckets.computeIfAbsent(rule.name() + ':' + clientKey,
+                key -> new TokenBucket(rule.capacityMilli(), now));
+        long waitMillis = bucket.tryAcquire(now, rule.capacityMilli(), rule.tokensPerSecond());
+        if (waitMillis > 0) {
+            rejected.get(rule.name()).increment();
+        }
+        return waitMillis;
+    }
+
+    // 오래 사용하지 않은 버킷 제거 (제거 후 다시 오면 가득 찬 버킷으로 시작하므로 한도에 영향 없음)
+    @Scheduled(fixedDelayString = "${security.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = now() - idleMillis;
+        buckets.values().removeIf(bucket -> bucket.lastRefillAt() < threshold);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private RateLimitRule match(HttpServletRequest request) {
+        for (RateLimitRule rule : rules) {
+            if (rule.matcher().matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 기동 시점 기준 단조 증가 ms
+    private long now() {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+}
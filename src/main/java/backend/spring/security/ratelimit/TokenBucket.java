@@ -0,0 +1,47 @@
+package backend.spring.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 잠금 없는 토큰 버킷 (마지막 충전 시각과 남은 토큰을 long 하나에 담아 CAS로 갱신)
+final class TokenBucket {
+
+    // 하위 22비트: 남은 토큰 (1/1000 단위), 상위 42비트: 마지막 충전 시각 (ms)
+    static final int TOKEN_BITS = 22;
+    static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final long MILLI_TOKENS = 1000;
+
+    private final AtomicLong state;
+
+    TokenBucket(long capacityMilli, long now) {
+        this.state = new AtomicLong(pack(now, capacityMilli));
+    }
+
+    // 토큰 1개 차감 (성공 시 0, 부족하면 다음 토큰까지 남은 ms)
+    long tryAcquire(long now, long capacityMilli, long tokensPerSecond) {
+        while (true) {
+            long current = state.get();
+            long last = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+
+            // 초당 n개 충전 = ms당 n/1000개
+            long elapsed = Math.max(0, now - last);
+            long available = Math.min(capacityMilli, tokens + elapsed * tokensPerSecond);
+            if (available < MILLI_TOKENS) {
+                return Math.max(1, (MILLI_TOKENS - available + tokensPerSecond - 1) / tokensPerSecond);
+            }
+
+            if (state.compareAndSet(current, pack(Math.max(now, last), available - MILLI_TOKENS))) {
+                return 0;
+            }
+        }
+    }
+
+    long lastRefillAt() {
+        return state.get() >>> TOKEN_BITS;
+    }
+
+    private static long pack(long time, long tokens) {
+        return (time << TOKEN_BITS) | tokens;
+    }
+
+}
@@ -0,0 +1,40 @@
+package backend.spring.security.repository;
+
+import backend.spring.security.model.entity.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 미사용 토큰을 사용 처리 (동시 갱신 중 한 요청만 성공, 변경된 행 수 반환)
+    @Modifying
+    @Query("update RefreshToken r set r.usedAt = :now "
+            + "where r.tokenHash = :tokenHash and r.usedAt is null and r.revokedAt is null")
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // 사용 시각 조회 (잠금 읽기로 다른 트랜잭션이 방금 커밋한 값 확인)
+    @Query(value = "select used_at from refresh_tokens where token_hash = :tokenHash for update", nativeQuery = true)
+    Optional<LocalDateTime> findUsedAtForUpdate(@Param("tokenHash") String tokenHash);
+
+    // 같은 계열 토큰 일괄 폐기
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.familyId = :familyId and r.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    // 기준 시각 이후 폐기된 계열 id 조회
+    @Query("select distinct r.familyId from RefreshToken r where r.revokedAt > :since")
+    List<String> findFamilyIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    // 만료 토큰 삭제
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
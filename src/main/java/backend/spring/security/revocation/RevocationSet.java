@@ -0,0 +1,43 @@
+package backend.spring.security.revocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 폐기된 토큰 계열 id와 만료 시각 (요청마다 DB 조회 없이 O(1) 확인)
+@Component
+public class RevocationSet {
+
+    // 토큰 계열 id -> 해당 계열 접근 토큰이 모두 만료되는 시각 (epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    public RevocationSet(MeterRegistry meterRegistry) {
+        Gauge.builder("security.revocation.size", revoked, ConcurrentHashMap::size)
+                .description("폐기 목록에 남아 있는 토큰 계열 수")
+                .register(meterRegistry);
+    }
+
+    // 만료 시각까지 폐기 (이미 있으면 더 늦은 시각 유지)
+    public void revoke(String tokenId, long expiresAtMillis) {
+        revoked.merge(tokenId, expiresAtMillis, Math::max);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 만료된 항목 제거 (만료된 토큰은 서명 검증 단계에서 거절되므로 더 이상 보관할 필요 없음)
+    @Scheduled(fixedDelayString = "${security.revocation.prune-interval-ms:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+}
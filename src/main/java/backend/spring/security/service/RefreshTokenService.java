@@ -0,0 +1,151 @@
+package backend.spring.security.service;
+
+import static backend.spring.security.exception.constants.SecurityExceptionMessages.INVALID_REFRESH_TOKEN;
+import static backend.spring.security.exception.constants.SecurityExceptionMessages.REFRESH_TOKEN_ALREADY_ROTATED;
+import static backend.spring.security.exception.constants.SecurityExceptionMessages.REFRESH_TOKEN_REUSED;
+
+import backend.spring.member.repository.MemberRepository;
+import backend.spring.security.dto.TokenResponse;
+import backend.spring.security.exception.InvalidRefreshTokenException;
+import backend.spring.security.model.CustomUserDetails;
+import backend.spring.security.model.entity.RefreshToken;
+import backend.spring.security.repository.RefreshTokenRepository;
+import backend.spring.security.revocation.RevocationSet;
+import backend.spring.security.utils.TokenProvider;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 갱신 토큰 발급, 회전 및 재사용 감지
+@Transactional
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRepository memberRepository;
+    private final TokenProvider tokenProvider;
+    private final RevocationSet revocationSet;
+    private final long refreshExpirationInMs;
+    private final long reuseGraceInMs;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, MemberRepository memberRepository,
+                               TokenProvider tokenProvider, RevocationSet revocationSet,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationInMs,
+                               @Value("${jwt.refresh-reuse-grace-ms:10000}") long reuseGraceInMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.memberRepository = memberRepository;
+        this.tokenProvider = tokenProvider;
+        this.revocationSet = revocationSet;
+        this.refreshExpirationInMs = refreshExpirationInMs;
+        this.reuseGraceInMs = reuseGraceInMs;
+    }
+
+    // 기동 시 접근 토큰이 아직 유효할 수 있는 폐기 계열 복원
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRevokedFamilies() {
+        long expiresAt = System.currentTimeMillis() + tokenProvider.getAccessTokenExpirationInMs();
+        LocalDateTime since = LocalDateTime.now().minusNanos(tokenProvider.getAccessTokenExpirationInMs() * 1_000_000);
+        refreshTokenRepository.findFamilyIdsRevokedSince(since)
+                .forEach(familyId -> revocationSet.revoke(familyId, expiresAt));
+    }
+
+    // 로그인 시 새 계열로 접근 토큰과 갱신 토큰 발급
+    public TokenResponse issue(CustomUserDetails userDetails) {
+        return issue(userDetails, UUID.randomUUID().toString());
+    }
+
+    // 갱신 토큰 회전 (사용된 토큰이 다시 오면 계열 전체 폐기)
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public TokenResponse refresh(String rawToken) {
+        String tokenHash = hash(rawToken);
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(token -> token.getRevokedAt() == null)
+                .filter(token -> token.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN.getMessage()));
+
+        // 이미 사용된 토큰
+        if (refreshTokenRepository.markUsed(tokenHash, LocalDateTime.now()) == 0) {
+            // 유예 시간 안의 재사용은 여러 탭, 재시도 등 정상 클라이언트의 동시 갱신으로 보고 계열을 유지
+            LocalDateTime usedAt = refreshTokenRepository.findUsedAtForUpdate(tokenHash).orElse(null);
+            if (usedAt != null && usedAt.isAfter(LocalDateTime.now().minusNanos(reuseGraceInMs * 1_000_000))) {
+                throw new InvalidRefreshTokenException(REFRESH_TOKEN_ALREADY_ROTATED.getMessage());
+            }
+            logger.warn("[RefreshToken] reuse detected: member={}, family={}",
+                    refreshToken.getMemberId(), refreshToken.getFamilyId());
+            revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException(REFRESH_TOKEN_REUSED.getMessage());
+        }
+
+        CustomUserDetails userDetails = memberRepository.findByMemberId(refreshToken.getMemberId())
+                .map(CustomUserDetails::new)
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN.getMessage()));
+        return issue(userDetails, refreshToken.getFamilyId());
+    }
+
+    // 로그아웃 (해당 계열의 갱신 토큰과 접근 토큰 폐기)
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshToken -> revokeFamily(refreshToken.getFamilyId()));
+    }
+
+    // 만료된 갱신 토큰 정리
+    @Scheduled(cron = "${security.refresh-token.cleanup-cron:0 0 5 * * *}")
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        logger.info("[RefreshToken] deleted {} expired tokens", deleted);
+    }
+
+    private TokenResponse issue(CustomUserDetails userDetails, String familyId) {
+        String rawToken = generateRawToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .memberId(userDetails.member().getMemberId())
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationInMs * 1_000_000))
+                .build());
+        return new TokenResponse(tokenProvider.generateToken(userDetails, familyId), rawToken);
+    }
+
+    // 계열 폐기 (이미 발급된 접근 토큰은 만료될 때까지 폐기 목록으로 차단)
+    private void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        revocationSet.revoke(familyId, System.currentTimeMillis() + tokenProvider.getAccessTokenExpirationInMs());
+    }
+
+    private String generateRawToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 토큰 원문 대신 저장할 해시
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
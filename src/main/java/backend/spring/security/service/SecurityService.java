@@ -3,9 +3,12 @@ package backend.spring.security.service;
 import static backend.spring.member.exception.constants.MemberExceptionMessages.MEMBER_NAME_NOT_FOUND;
 
 import backend.spring.member.model.entity.Member;
+import backend.spring.security.cache.UserDetailsCache;
 import backend.spring.security.model.CustomUserDetails;
 import backend.spring.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,17 +17,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 @Service
 @RequiredArgsConstructor
-public class SecurityService implements UserDetailsService {
+public class SecurityService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    // 이름으로 회원 조회
+    // 이름으로 회원 조회 (캐시에 없을 때만 DB 조회)
     @Override
+    @Transactional(readOnly = true)
     public CustomUserDetails loadUserByUsername(String name) throws UsernameNotFoundException {
+        CustomUserDetails cached = userDetailsCache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 중 변경이 커밋되어 캐시가 제거되면 조회한 값은 저장하지 않음
+        long generation = userDetailsCache.generation(name);
         Member member = memberRepository.findByName(name)
                 .orElseThrow(() -> new UsernameNotFoundException(MEMBER_NAME_NOT_FOUND.getMessage()));
 
+        CustomUserDetails customUserDetails = new CustomUserDetails(member);
+        userDetailsCache.put(customUserDetails, generation);
+        return customUserDetails;
+    }
+
+    // 로그인 성공 시 설정된 cost와 다른 비밀번호 해시 교체
+    @Override
+    public CustomUserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByMemberId(((CustomUserDetails) user).member().getMemberId())
+                .orElseThrow(() -> new UsernameNotFoundException(MEMBER_NAME_NOT_FOUND.getMessage()));
+        member.setPassword(newPassword);
         return new CustomUserDetails(member);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package backend.spring.security.utils;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// 설정된 cost와 다른 해시는 로그인 시 재해시 (cost를 낮추는 경우도 포함)
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // $2a$10$... 형식에서 cost 추출
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package backend.spring.security.utils;
 
 import backend.spring.security.model.CustomUserDetails;
+import backend.spring.security.model.JwtPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -17,9 +18,14 @@ public class SecurityUtil {
             throw new IllegalArgumentException("인증 정보가 없습니다.");
         }
 
+        // 토큰 클레임으로 만든 인증 주체
+        if (authentication.getPrincipal() instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.memberId();
+        }
+
         // 인증 정보에서 회원 정보 가져오기
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
         return customUserDetails.member().getMemberId();
     }
 
-}
\ No newline at end of file
+}
@@ -1,14 +1,20 @@
 package backend.spring.security.utils;
 
 import backend.spring.security.model.CustomUserDetails;
+import backend.spring.security.model.JwtPrincipal;
+import backend.spring.security.revocation.RevocationSet;
 import backend.spring.security.service.SecurityService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
@@ -17,81 +23,96 @@ import java.util.Date;
 @Component
 public class TokenProvider {
 
+    private static final String MEMBER_ID_CLAIM = "mid";
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String FAMILY_CLAIM = "fam";
+
     private final SecurityService securityService;
+    private final RevocationSet revocationSet;
     private final Key jwtSecretKey;
+    // 서명 검증용 파서 (스레드 안전하므로 재사용)
+    private final JwtParser jwtParser;
     private final long jwtExpirationInMs;
 
-    public TokenProvider(SecurityService securityService, @Value("${jwt.secret}") String secretKey,
+    public TokenProvider(SecurityService securityService, RevocationSet revocationSet,
+                         @Value("${jwt.secret}") String secretKey,
                          @Value("${jwt.expiration}") String jwtExpirationInMs){
         this.securityService = securityService;
+        this.revocationSet = revocationSet;
         this.jwtSecretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(jwtSecretKey).build();
         this.jwtExpirationInMs = Long.parseLong(jwtExpirationInMs);
 
     }
 
-    // 토큰 생성
-    public String generateToken(UserDetails userDetails) {
+    // 토큰 생성 (회원 id, 권한 문자열, 갱신 토큰 계열 id를 클레임에 포함)
+    public String generateToken(CustomUserDetails userDetails, String familyId) {
         long now = (new Date()).getTime();
         // 접근 토큰 생성
         Date accessTokenExpiresIn = new Date(now + jwtExpirationInMs);
+        List<String> authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
         return Jwts.builder()
                 .setSubject(userDetails.getUsername())
-                .claim("auth", userDetails.getAuthorities())
+                .claim(MEMBER_ID_CLAIM, userDetails.member().getMemberId())
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .claim(FAMILY_CLAIM, familyId)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(jwtSecretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    // 인증 정보 추출
-    public Authentication extractAuthentication(String accessToken) {
-        // 토큰 복호화
+    // 인증 정보 추출 (서명 검증 1회, 회원 조회 없음)
+    public Authentication extractAuthentication(String accessToken) throws JwtException {
+        // 토큰 검증 및 복호화
         Claims claims = parseClaims(accessToken);
 
-        if (claims.get("auth") == null) {
-            throw new IllegalArgumentException("권한 정보가 없는 토큰입니다.");
+        // 로그아웃 또는 갱신 토큰 탈취로 폐기된 계열 확인
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (familyId != null && revocationSet.isRevoked(familyId)) {
+            throw new JwtException("폐기된 토큰입니다.");
         }
 
-        // 회원 이름 추출
-        String name = getUsernameFromToken(accessToken);
-
-        // UserDetails 객체를 만들어서 Authentication 리턴
-        CustomUserDetails customUserDetails = securityService.loadUserByUsername(name);
-        return new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
-    }
+        if (claims.get(AUTHORITIES_CLAIM) == null) {
+            throw new IllegalArgumentException("권한 정보가 없는 토큰입니다.");
+        }
 
-    // 토큰 복호화
-    private Claims parseClaims(String accessToken) {
-        try {
-            return Jwts.parserBuilder().setSigningKey(jwtSecretKey).build().parseClaimsJws(accessToken).getBody();
-        // 토큰 만료시 예외 처리
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+        // 회원 id가 없는 이전 형식 토큰은 이름으로 회원 조회
+        Number memberId = claims.get(MEMBER_ID_CLAIM, Number.class);
+        if (memberId == null) {
+            CustomUserDetails customUserDetails = securityService.loadUserByUsername(claims.getSubject());
+            return new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         }
-    }
 
-    // 토큰으로부터 이름 추출
-    public String getUsernameFromToken(String token) throws JwtException {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        // 클레임으로 Authentication 생성
+        JwtPrincipal principal = new JwtPrincipal(memberId.longValue(), claims.getSubject());
+        return new UsernamePasswordAuthenticationToken(principal, null, toAuthorities(claims.get(AUTHORITIES_CLAIM)));
+    }
 
-        return claims.getSubject();
+    // 접근 토큰 유효 기간
+    public long getAccessTokenExpirationInMs() {
+        return jwtExpirationInMs;
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token) throws JwtException {
+    // 토큰 검증 및 복호화 (만료된 토큰도 예외)
+    private Claims parseClaims(String accessToken) throws JwtException {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtSecretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("유효하지 않은 토큰입니다.");
         }
     }
 
-}
+    // 권한 클레임 변환 (이전 형식 토큰은 {"authority": ...} 객체 목록)
+    private List<SimpleGrantedAuthority> toAuthorities(Object claim) {
+        if (!(claim instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(value -> value instanceof Map<?, ?> map ? map.get("authority") : value)
+                .map(value -> new SimpleGrantedAuthority(String.valueOf(value)))
+                .toList();
+    }
 
+}
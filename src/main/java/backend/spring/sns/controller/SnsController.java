@@ -1,11 +1,13 @@
 package backend.spring.sns.controller;
 
 import backend.spring.sns.dto.request.PostSearchCondition;
-import backend.spring.sns.dto.response.CommentResponse;
-import backend.spring.sns.dto.response.PostSearchResult;
-import backend.spring.sns.dto.response.PostResponse;
+import backend.spring.sns.dto.response.CommentPageResponse;
+import backend.spring.sns.dto.response.FeedResponse;
+import backend.spring.sns.dto.response.PostSearchPageResponse;
+import backend.spring.sns.dto.response.PostUploadResponse;
 import backend.spring.sns.dto.request.CommentWriteRequest;
 import backend.spring.sns.dto.request.PostUploadRequest;
+import backend.spring.sns.model.PageCursor;
 import backend.spring.sns.service.SnsService;
 import backend.spring.security.utils.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,7 +16,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -25,8 +26,11 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,34 +42,43 @@ public class SnsController {
     @Autowired
     private final SnsService snsService;
 
-    // 게시물 업로드
+    // 게시물 업로드 (Prefer: respond-async 요청 시 변형 생성을 기다리지 않는다는 의미로 202와 게시물 id 반환)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 업로드 성공"),
+            @ApiResponse(responseCode = "202", description = "게시글 업로드 성공, 사진 변형 생성 중"),
             @ApiResponse(responseCode = "400", description = "잘못된 요청"),
             @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음.")})
     @Operation(summary = "게시물 업로드")
     @PostMapping(value = "", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Void> uploadPost(@Valid @ModelAttribute PostUploadRequest uploadParam) throws IOException {
+    public ResponseEntity<PostUploadResponse> uploadPost(@Valid @ModelAttribute PostUploadRequest uploadParam,
+            @Parameter(name = "Prefer") @RequestHeader(value = "Prefer", required = false) String prefer)
+            throws IOException {
         // 로그인 중인 회원 id
         Long memberId = securityUtil.getCurrentMemberId();
 
         // 게시물 등록
-        snsService.registerPost(memberId, uploadParam);
+        Long postId = snsService.registerPost(memberId, uploadParam);
+        if (prefer != null && prefer.contains("respond-async")) {
+            return ResponseEntity.accepted().body(new PostUploadResponse(postId));
+        }
         return ResponseEntity.ok().build();
     }
 
-    // 게시물 전체 조회
+    // 피드 조회
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "게시글 전체 조회 성공")})
-    @Operation(summary = "게시물 전체 조회")
+            @ApiResponse(responseCode = "200", description = "피드 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")})
+    @Operation(summary = "피드 조회")
     @GetMapping("")
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
+    public ResponseEntity<FeedResponse> getFeed(
+            @Parameter(name = "cursor") @RequestParam(required = false) String cursor,
+            @Parameter(name = "size") @RequestParam(defaultValue = "10") int size) {
         // 로그인 중인 회원 id
         Long memberId = securityUtil.getCurrentMemberId();
 
-        // 게시물 응답 DTO 반환
-        List<PostResponse> postResponses = snsService.getAllPosts(memberId);
-        return ResponseEntity.ok(postResponses);
+        // 피드 응답 DTO 반환
+        FeedResponse feedResponse = snsService.getFeed(memberId, cursor, size);
+        return ResponseEntity.ok(feedResponse);
     }
 
     // 댓글 작성
@@ -88,21 +101,23 @@ public class SnsController {
     // 댓글 조회
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 댓글 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
             @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음.")})
     @Operation(summary = "게시물 댓글 조회")
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(
-            @Parameter(name = "postId", required = true) @Valid @PathVariable Long postId) {
+    public ResponseEntity<CommentPageResponse> getComments(
+            @Parameter(name = "postId", required = true) @Valid @PathVariable Long postId,
+            @Parameter(name = "cursor") @RequestParam(required = false) String cursor,
+            @Parameter(name = "size") @RequestParam(defaultValue = "20") int size) {
         // 댓글 응답 DTO 반환
-        List<CommentResponse> commentResponses = snsService.getComments(postId);
-        return ResponseEntity.ok(commentResponses);
+        CommentPageResponse commentPageResponse = snsService.getComments(postId, cursor, size);
+        return ResponseEntity.ok(commentPageResponse);
     }
 
     // 게시물 좋아요
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 좋아요 성공"),
-            @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음."),
-            @ApiResponse(responseCode = "409", description = "좋아요 중복 시도")})
+            @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음.")})
     @Operation(summary = "게시물 좋아요")
     @PostMapping("/{postId}/like")
     public ResponseEntity<Void> likePost(
@@ -118,8 +133,7 @@ public class SnsController {
     // 게시물 좋아요 취소
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "게시글 좋아요 취소 성공"),
-            @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음."),
-            @ApiResponse(responseCode = "409", description = "좋아요 취소 중복 시도")})
+            @ApiResponse(responseCode = "404", description = "리소스 찾을 수 없음.")})
     @Operation(summary = "게시물 좋아요 취소")
     @DeleteMapping("/{postId}/like")
     public ResponseEntity<Void> unlikePost(
@@ -134,13 +148,37 @@ public class SnsController {
 
     // 검색 조건으로 게시물 조회
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "게시물 검색 성공")})
+            @ApiResponse(responseCode = "200", description = "게시물 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")})
     @Operation(summary = "검색 조건으로 게시물 조회")
     @PostMapping("/search")
-    public ResponseEntity<List<PostSearchResult>> searchByConditions(@Valid @RequestBody PostSearchCondition searchParam){
+    public ResponseEntity<PostSearchPageResponse> searchByConditions(@Valid @RequestBody PostSearchCondition searchParam){
+        // 로그인 중인 회원 id
+        Long memberId = securityUtil.getCurrentMemberId();
+
         // 검색 정보로 게시물 조회
-        List<PostSearchResult> postSearchResults = snsService.searchByConditions(searchParam);
-        return ResponseEntity.ok(postSearchResults);
+        PostSearchPageResponse postSearchPageResponse = snsService.searchByConditions(memberId, searchParam);
+        return ResponseEntity.ok(postSearchPageResponse);
+    }
+
+    // 검색 조건으로 게시물 전체 조회 (NDJSON 스트리밍)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "게시물 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")})
+    @Operation(summary = "검색 조건으로 게시물 전체 조회 (NDJSON)")
+    @PostMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByConditions(@Valid @RequestBody PostSearchCondition searchParam){
+        // 로그인 중인 회원 id
+        Long memberId = securityUtil.getCurrentMemberId();
+
+        // 응답 전송 전에 커서 검증
+        PageCursor.decode(searchParam.cursor());
+
+        // 검색 결과를 응답 스트림에 기록
+        StreamingResponseBody body = out -> snsService.streamByConditions(memberId, searchParam, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package backend.spring.sns.counter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 게시물 좋아요 개수 증감을 메모리에 모아 주기적으로 like_count 컬럼에 일괄 반영
+@Component
+public class LikeCounterBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeCounterBuffer.class);
+
+    private static final String FLUSH_SQL = "update posts set like_count = like_count + ? where post_id = ?";
+
+    private final ConcurrentHashMap<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+    // 가장 오래된 미반영 증감 시각 (nanoTime, 없으면 0)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+    // 반영 중인 배치와 절대값 덮어쓰기가 겹치지 않도록 직렬화
+    private final Object flushLock = new Object();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushLagTimer;
+
+    public LikeCounterBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry, @Value("${like.counter.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.batchSizeSummary = DistributionSummary.builder("like.counter.flush.batch.size")
+                .description("한 번의 UPDATE 배치로 반영한 게시물 수")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder("like.counter.flush.lag")
+                .description("가장 오래된 미반영 증감이 DB에 반영되기까지의 시간")
+                .register(meterRegistry);
+        Gauge.builder("like.counter.pending.posts", deltas, ConcurrentHashMap::size)
+                .description("반영 대기 중인 게시물 수")
+                .register(meterRegistry);
+    }
+
+    // 트랜잭션 커밋 후 증감 (롤백된 좋아요는 개수에 반영하지 않음)
+    public void addAfterCommit(Long postId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(postId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(postId, delta);
+            }
+        });
+    }
+
+    public void add(Long postId, long delta) {
+        LongAdder adder = deltas.computeIfAbsent(postId, key -> new LongAdder());
+        adder.add(delta);
+        oldestPendingAt.compareAndSet(0, System.nanoTime());
+
+        // 반영 중 제거된 누적기에 더해졌다면 남은 값을 새 누적기로 옮김
+        if (deltas.get(postId) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                add(postId, orphaned);
+            }
+        }
+    }
+
+    // 아직 DB에 반영되지 않은 증감
+    public long pending(Long postId) {
+        LongAdder adder = deltas.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 누적된 증감을 배치 UPDATE로 반영
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            flushPending();
+        }
+    }
+
+    // id 범위의 미반영 증감을 버리고 절대값으로 덮어씀 (덮어쓴 값에 이미 포함된 증감이 다시 더해지지 않도록)
+    public int overwrite(long fromPostId, long toPostId, IntSupplier update) {
+        synchronized (flushLock) {
+            for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+                long postId = entry.getKey();
+                if (postId > fromPostId && postId <= toPostId && deltas.remove(postId, entry.getValue())) {
+                    entry.getValue().reset();
+                }
+            }
+            return update.getAsInt();
+        }
+    }
+
+    private void flushPending() {
+        long pendingSince = oldestPendingAt.getAndSet(0);
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = drain(entry.getKey(), entry.getValue());
+            if (delta == 0) {
+                continue;
+            }
+            batch.add(new Object[]{delta, entry.getKey()});
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+
+        if (pendingSince != 0) {
+            flushLagTimer.record(System.nanoTime() - pendingSince, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 종료 전 남은 증감 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 누적값을 꺼내고, 변화가 없던 게시물은 맵에서 제거
+    private long drain(Long postId, LongAdder adder) {
+        long delta = adder.sumThenReset();
+        if (delta == 0 && deltas.remove(postId, adder)) {
+            delta = adder.sumThenReset();
+        }
+        return delta;
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            batchSizeSummary.record(batch.size());
+        } catch (DataAccessException e) {
+            // 실패한 증감은 다음 주기에 재시도
+            logger.error("[LikeCounter] flush failed: {}", e.getMessage());
+            batch.forEach(args -> add((Long) args[1], (Long) args[0]));
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package backend.spring.sns.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// post_like_member, comments 기준으로 게시물 개수 컬럼 재계산 (비정상 종료로 유실된 증감 복구)
+// like_count는 각 인스턴스의 LikeCounterBuffer가 증감을 모아 반영하므로 절대값 재계산은 어느 인스턴스에도
+// 미반영 증감이 없을 때만 안전함 (다른 인스턴스가 재계산에 이미 포함된 증감을 다시 더하면 영구히 어긋남)
+@Component
+public class PostCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostCounterReconciler.class);
+
+    private static final String REPLAY_SQL = "update posts p set "
+            + "p.like_count = (select count(*) from post_like_member l where l.post_id = p.post_id), "
+            + "p.comment_count = (select count(*) from comments c where c.post_id = p.post_id) "
+            + "where p.post_id > ? and p.post_id <= ?";
+
+    // 댓글 수는 댓글 저장 트랜잭션에서 바로 증가하므로 운영 중에도 재계산 가능
+    private static final String REPLAY_COMMENTS_SQL = "update posts p set "
+            + "p.comment_count = (select count(*) from comments c where c.post_id = p.post_id) "
+            + "where p.post_id > ? and p.post_id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeCounterBuffer likeCounterBuffer;
+    private final boolean replayOnStartup;
+    private final int batchSize;
+
+    public PostCounterReconciler(JdbcTemplate jdbcTemplate, LikeCounterBuffer likeCounterBuffer,
+                                 @Value("${post.counter.replay-on-startup:false}") boolean replayOnStartup,
+                                 @Value("${post.counter.replay-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.likeCounterBuffer = likeCounterBuffer;
+        this.replayOnStartup = replayOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    // 명시적으로 켠 경우만 실행 (다른 인스턴스를 모두 멈춘 뒤 한 인스턴스만 켜서 기동할 때 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (replayOnStartup) {
+            replay();
+        }
+    }
+
+    // id 범위 단위로 나누어 좋아요, 댓글 수 재계산 (재계산 값에 이미 포함된 이 인스턴스의 좋아요 증감은 버퍼에서 버림)
+    // 다른 인스턴스에 미반영 증감이 없을 때만 호출
+    public void replay() {
+        Long maxPostId = jdbcTemplate.queryForObject("select coalesce(max(post_id), 0) from posts", Long.class);
+        long updated = 0;
+        for (long from = 0; from < maxPostId; from += batchSize) {
+            long fromPostId = from;
+            long toPostId = Math.min(from + batchSize, maxPostId);
+            updated += likeCounterBuffer.overwrite(fromPostId, toPostId,
+                    () -> jdbcTemplate.update(REPLAY_SQL, fromPostId, toPostId));
+        }
+        logger.info("[PostCounter] replayed like_count and comment_count for {} posts", updated);
+    }
+
+    // id 범위 단위로 나누어 댓글 수만 재계산 (운영 중 일괄 가져오기 후 사용)
+    public void replayComments() {
+        Long maxPostId = jdbcTemplate.queryForObject("select coalesce(max(post_id), 0) from posts", Long.class);
+        long updated = 0;
+        for (long from = 0; from < maxPostId; from += batchSize) {
+            updated += jdbcTemplate.update(REPLAY_COMMENTS_SQL, from, Math.min(from + batchSize, maxPostId));
+        }
+        logger.info("[PostCounter] replayed comment_count for {} posts", updated);
+    }
+
+}
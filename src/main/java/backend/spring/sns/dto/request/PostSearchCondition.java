@@ -1,13 +1,19 @@
 package backend.spring.sns.dto.request;
 
+import backend.spring.sns.model.PostSearchSort;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
 @Schema(description = "게시물 검색 조건 요청 DTO")
 public record PostSearchCondition(String memberName, String location, String caption, LocalDateTime startDate,
-                                  LocalDateTime endDate) {
+                                  LocalDateTime endDate, String cursor, Integer size, PostSearchSort sort) {
 
     public PostSearchCondition {
     }
 
+    // 정렬 기준 (기본값 최신순)
+    public PostSearchSort sortOrDefault() {
+        return sort == null ? PostSearchSort.LATEST : sort;
+    }
+
 }
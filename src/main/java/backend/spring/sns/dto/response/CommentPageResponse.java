@@ -0,0 +1,12 @@
+package backend.spring.sns.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "게시물 댓글 페이지 조회 응답 DTO")
+public record CommentPageResponse(List<CommentResponse> comments, String nextCursor, long commentCount) {
+
+    public CommentPageResponse {
+    }
+
+}
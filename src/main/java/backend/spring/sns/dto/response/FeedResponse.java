@@ -0,0 +1,12 @@
+package backend.spring.sns.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "피드 조회 응답 DTO")
+public record FeedResponse(List<PostResponse> posts, String nextCursor) {
+
+    public FeedResponse {
+    }
+
+}
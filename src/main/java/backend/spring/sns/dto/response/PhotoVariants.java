@@ -0,0 +1,11 @@
+package backend.spring.sns.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "사진 변형 경로 (생성 전에는 null, 원본 경로 사용)")
+public record PhotoVariants(String thumbUrl, String feedUrl, String fullUrl) {
+
+    public PhotoVariants{
+    }
+
+}
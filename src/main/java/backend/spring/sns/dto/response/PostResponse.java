@@ -1,9 +1,11 @@
 package backend.spring.sns.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
 
 @Schema(description = "게시물 조회 응답 DTO")
-public record PostResponse(Long postId, String authorName, String avatarUrl, String photoUrl, String caption, String location, boolean isLike ) {
+public record PostResponse(Long postId, String authorName, String avatarUrl, String photoUrl, PhotoVariants variants, String caption, String location, boolean isLike, long likeCount,
+                           long commentCount, List<CommentResponse> latestComments) {
 
     public PostResponse{
     }
@@ -0,0 +1,12 @@
+package backend.spring.sns.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "게시물 검색 페이지 응답 DTO")
+public record PostSearchPageResponse(List<PostSearchResult> posts, String nextCursor) {
+
+    public PostSearchPageResponse {
+    }
+
+}
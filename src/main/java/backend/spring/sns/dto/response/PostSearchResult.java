@@ -6,18 +6,21 @@ import java.time.LocalDateTime;
 
 @Schema(description = "검색 결과 응답 DTO")
 public record PostSearchResult(Long postId, String location, String caption, LocalDateTime createdAt, Long memberId,
-                               String memberName, String memberAvatarUrl) {
+                               String memberName, String memberAvatarUrl, boolean isLike, long likeCount) {
+
+    public PostSearchResult {
+    }
 
     @QueryProjection
     public PostSearchResult(Long postId, String location, String caption, LocalDateTime createdAt, Long memberId,
-                            String memberName, String memberAvatarUrl) {
-        this.postId = postId;
-        this.location = location;
-        this.caption = caption;
-        this.createdAt = createdAt;
-        this.memberId = memberId;
-        this.memberName = memberName;
-        this.memberAvatarUrl = memberAvatarUrl;
+                            String memberName, String memberAvatarUrl, long likeCount) {
+        this(postId, location, caption, createdAt, memberId, memberName, memberAvatarUrl, false, likeCount);
+    }
+
+    // 좋아요 여부 및 개수 반영
+    public PostSearchResult withLikes(boolean isLike, long likeCount) {
+        return new PostSearchResult(postId, location, caption, createdAt, memberId, memberName, memberAvatarUrl,
+                isLike, likeCount);
     }
 
 }
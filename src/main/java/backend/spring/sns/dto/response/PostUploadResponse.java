@@ -0,0 +1,11 @@
+package backend.spring.sns.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "게시물 업로드 응답 DTO (사진 변형은 생성 중)")
+public record PostUploadResponse(Long postId) {
+
+    public PostUploadResponse{
+    }
+
+}
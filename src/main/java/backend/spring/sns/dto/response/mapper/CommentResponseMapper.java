@@ -2,7 +2,12 @@ package backend.spring.sns.dto.response.mapper;
 
 import backend.spring.sns.dto.response.CommentResponse;
 import backend.spring.sns.model.entity.Comment;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
@@ -25,4 +30,28 @@ public class CommentResponseMapper {
         );
     }
 
-}
\ No newline at end of file
+    // 최신 댓글 조회 결과를 게시물 id별로 묶음
+    public Map<Long, List<CommentResponse>> toLatestComments(List<Object[]> rows) {
+        Map<Long, List<CommentResponse>> latestComments = new HashMap<>();
+        for (Object[] row : rows) {
+            Long postId = ((Number) row[0]).longValue();
+            CommentResponse commentResponse = new CommentResponse(
+                    ((Number) row[1]).longValue(),
+                    (String) row[2],
+                    (String) row[3],
+                    (String) row[4],
+                    toLocalDateTime(row[5])
+            );
+            latestComments.computeIfAbsent(postId, key -> new ArrayList<>()).add(commentResponse);
+        }
+        return latestComments;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+}
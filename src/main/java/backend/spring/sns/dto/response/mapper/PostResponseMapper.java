@@ -1,9 +1,11 @@
 package backend.spring.sns.dto.response.mapper;
 
-import backend.spring.member.model.entity.Member;
+import backend.spring.sns.dto.response.CommentResponse;
+import backend.spring.sns.dto.response.PhotoVariants;
 import backend.spring.sns.dto.response.PostResponse;
 import backend.spring.sns.model.entity.Post;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -11,29 +13,36 @@ import org.springframework.stereotype.Component;
 @Component
 public class PostResponseMapper {
 
-    public List<PostResponse> toPostResponses(List<Post> posts,  Member currentMember) {
+    public List<PostResponse> toPostResponses(List<Post> posts, Set<Long> likedPostIds, Map<Long, Long> likeCounts,
+                                              Map<Long, List<CommentResponse>> latestComments) {
         return posts.stream()
-                .map(post -> toPostResponse(post, currentMember))
+                .map(post -> toPostResponse(post, likedPostIds, likeCounts, latestComments))
                 .collect(Collectors.toList());
     }
 
-    public PostResponse toPostResponse(Post post, Member currentMember) {
+    public PostResponse toPostResponse(Post post, Set<Long> likedPostIds, Map<Long, Long> likeCounts,
+                                       Map<Long, List<CommentResponse>> latestComments) {
         return new PostResponse(
                 post.getPostId(),
                 post.getAuthor().getName(),
                 post.getAuthor().getAvatarUrl(),
                 post.getPhotoUrl(),
+                toPhotoVariants(post),
                 post.getCaption(),
                 post.getLocation(),
-                isLikeMember(post, currentMember)
+                likedPostIds.contains(post.getPostId()),
+                likeCounts.getOrDefault(post.getPostId(), 0L),
+                post.getCommentCount(),
+                latestComments.getOrDefault(post.getPostId(), List.of())
         );
     }
 
-    // 좋아요 여부 확인
-    private boolean isLikeMember(Post post, Member currentMember) {
-        Set<Member> likeMemberSet = post.getLikeMemberSet();
-        return likeMemberSet.stream()
-                .anyMatch(member -> member.getMemberId().equals(currentMember.getMemberId()));
+    // 변형 생성 전이면 null
+    private PhotoVariants toPhotoVariants(Post post) {
+        if (post.getFeedUrl() == null) {
+            return null;
+        }
+        return new PhotoVariants(post.getThumbUrl(), post.getFeedUrl(), post.getFullUrl());
     }
 
 }
@@ -0,0 +1,7 @@
+package backend.spring.sns.exception;
+
+import lombok.experimental.StandardException;
+
+@StandardException
+public class InvalidCursorException extends RuntimeException {
+}
@@ -24,4 +24,10 @@ public class SnsExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new CustomErrorResponse(e.getMessage()));
     }
 
+    // 커서 복원 실패 예외
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<CustomErrorResponse> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new CustomErrorResponse(e.getMessage()));
+    }
+
 }
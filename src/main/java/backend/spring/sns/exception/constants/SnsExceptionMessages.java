@@ -2,7 +2,8 @@ package backend.spring.sns.exception.constants;
 
 public enum SnsExceptionMessages {
 
-    POST_ID_NOT_FOUND("해당하는 게시물이 없습니다.");
+    POST_ID_NOT_FOUND("해당하는 게시물이 없습니다."),
+    INVALID_CURSOR("유효하지 않은 커서입니다.");
 
     private final String message;
 
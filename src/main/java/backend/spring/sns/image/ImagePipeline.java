@@ -0,0 +1,229 @@
+package backend.spring.sns.image;
+
+import backend.spring.file.PhotoNames;
+import backend.spring.file.service.FileService;
+import backend.spring.sns.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+// 업로드 사진을 한 번 디코딩하여 너비별 변형(full, feed, thumb)을 생성하는 백그라운드 작업
+@Component
+public class ImagePipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImagePipeline.class);
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    private final FileService fileService;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int fullWidth;
+    private final int feedWidth;
+    private final int thumbWidth;
+    private final float quality;
+    private final long maxPixels;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer processTimer;
+
+    public ImagePipeline(FileService fileService, PostRepository postRepository,
+                         TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                         @Value("${image.pipeline.pool-size:2}") int poolSize,
+                         @Value("${image.pipeline.queue-capacity:100}") int queueCapacity,
+                         @Value("${image.variant.full-width:1080}") int fullWidth,
+                         @Value("${image.variant.feed-width:640}") int feedWidth,
+                         @Value("${image.variant.thumb-width:150}") int thumbWidth,
+                         @Value("${image.variant.jpeg-quality:0.8}") float quality,
+                         @Value("${image.pipeline.max-pixels:40000000}") long maxPixels) {
+        this.fileService = fileService;
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 가득 차면 요청 스레드에서 처리하지 않고 거절
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.fullWidth = fullWidth;
+        this.feedWidth = feedWidth;
+        this.thumbWidth = thumbWidth;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+        this.rejected = Counter.builder("image.pipeline.rejected")
+                .description("대기열 포화로 변형 생성을 건너뛴 게시물 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("image.pipeline.failed")
+                .description("변형 생성에 실패한 게시물 수")
+                .register(meterRegistry);
+        this.processTimer = Timer.builder("image.pipeline.duration")
+                .description("게시물 1건의 디코딩, 변형 생성 및 업로드 시간")
+                .register(meterRegistry);
+        Gauge.builder("image.pipeline.queue", executor, pool -> pool.getQueue().size())
+                .description("변형 생성 대기 중인 게시물 수")
+                .register(meterRegistry);
+    }
+
+    // 업로드 사진을 임시 파일로 복사 (요청이 끝나면 업로드 임시 파일이 사라지므로, 대기열이 가득 차 있으면 null)
+    public Path stage(MultipartFile photo) throws IOException {
+        // 대기열이 가득 차 있으면 복사도 하지 않음 (변형이 없으면 원본 경로 사용)
+        if (executor.getQueue().remainingCapacity() == 0) {
+            reject();
+            return null;
+        }
+
+        Path source = Files.createTempFile("photo-", ".img");
+        try (InputStream in = photo.getInputStream()) {
+            Files.copy(in, source, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+        return source;
+    }
+
+    // 트랜잭션 커밋 후 변형 생성 예약 (롤백되면 임시 파일 삭제)
+    public void submitAfterCommit(Long postId, String photoName, Path source) {
+        if (source == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(postId, photoName, source);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(postId, photoName, source);
+                } else {
+                    delete(source);
+                }
+            }
+        });
+    }
+
+    // 예약하지 못한 임시 파일 삭제
+    public void discard(Path source) {
+        if (source != null) {
+            delete(source);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(Long postId, String photoName, Path source) {
+        try {
+            executor.execute(() -> process(postId, photoName, source));
+        } catch (RejectedExecutionException e) {
+            delete(source);
+            reject();
+        }
+    }
+
+    // 한 번 디코딩한 뒤 큰 변형에서 작은 변형 순으로 축소
+    private void process(Long postId, String photoName, Path source) {
+        long startedAt = System.nanoTime();
+        String fullName = PhotoNames.variantName(photoName, "full");
+        String feedName = PhotoNames.variantName(photoName, "feed");
+        String thumbName = PhotoNames.variantName(photoName, "thumb");
+        try {
+            // 같은 내용의 사진이 이미 변형까지 생성되어 있으면 경로만 기록
+            if (fileService.exists(fullName) && fileService.exists(feedName) && fileService.exists(thumbName)) {
+                transactionTemplate.executeWithoutResult(status -> postRepository.updatePhotoVariants(postId,
+                        fileService.getUrl(thumbName), fileService.getUrl(feedName), fileService.getUrl(fullName)));
+                return;
+            }
+
+            BufferedImage original = decode(source);
+            BufferedImage full = ImageResizer.fitWidth(original, fullWidth);
+            BufferedImage feed = ImageResizer.fitWidth(full, feedWidth);
+            BufferedImage thumb = ImageResizer.fitWidth(feed, thumbWidth);
+
+            String fullUrl = upload(full, fullName);
+            String feedUrl = upload(feed, feedName);
+            String thumbUrl = upload(thumb, thumbName);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    postRepository.updatePhotoVariants(postId, thumbUrl, feedUrl, fullUrl));
+            processTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            logger.error("[ImagePipeline] post {} failed: {}", postId, e.getMessage());
+        } finally {
+            delete(source);
+        }
+    }
+
+    // 헤더의 크기를 먼저 확인한 뒤 디코딩 (작은 파일이 거대한 캔버스를 선언해 메모리를 소진하는 것 방지)
+    private BufferedImage decode(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("image too large: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String upload(BufferedImage image, String name) throws IOException {
+        return fileService.uploadBytes(ImageResizer.toJpeg(image, quality), name, JPEG_CONTENT_TYPE);
+    }
+
+    private void reject() {
+        rejected.increment();
+        logger.warn("[ImagePipeline] queue full, skipped variants");
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("[ImagePipeline] failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+}
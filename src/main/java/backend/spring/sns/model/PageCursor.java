@@ -0,0 +1,41 @@
+package backend.spring.sns.model;
+
+import static backend.spring.sns.exception.constants.SnsExceptionMessages.INVALID_CURSOR;
+
+import backend.spring.sns.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// (생성 날짜, id) 기반 페이지 커서
+public record PageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public PageCursor {
+    }
+
+    // 클라이언트에 전달할 불투명 문자열로 변환
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 문자열 커서 복원 (첫 페이지는 null)
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+            return new PageCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(INVALID_CURSOR.getMessage());
+        }
+    }
+
+}
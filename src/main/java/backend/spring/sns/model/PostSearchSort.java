@@ -0,0 +1,7 @@
+package backend.spring.sns.model;
+
+// 게시물 검색 정렬 기준 (생성 날짜, id 순)
+public enum PostSearchSort {
+    LATEST,
+    OLDEST
+}
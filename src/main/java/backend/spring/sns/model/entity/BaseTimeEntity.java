@@ -1,6 +1,7 @@
 package backend.spring.sns.model.entity;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 import java.time.LocalDateTime;
@@ -15,10 +16,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public abstract class BaseTimeEntity {
 
     @CreatedDate
+    @Column(name = "created_at")
     @Schema(description = "생성 날짜")
     private LocalDateTime createdAt;
 
     @LastModifiedDate
+    @Column(name = "modified_at")
     @Schema(description = "수정 날짜")
     private LocalDateTime modifiedAt;
 
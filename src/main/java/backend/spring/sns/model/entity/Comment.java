@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,12 +21,18 @@ import lombok.NoArgsConstructor;
 @Schema(description = "댓글")
 @Entity
 @Getter
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // 게시물별 댓글 키셋 페이지네이션 (게시물, 생성 날짜, id)
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_at, comment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 풀링 방식 id 할당 (MySQL은 테이블로 시퀀스 대체, 50개 단위로 할당하여 INSERT 배치 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comments_seq", allocationSize = 50)
+    @Column(name = "comment_id")
     @Schema(description = "댓글 id")
     private Long commentId;
 
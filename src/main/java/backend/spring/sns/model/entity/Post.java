@@ -9,11 +9,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -29,12 +31,18 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 피드 키셋 페이지네이션 (작성자, 생성 날짜, id)
+        @Index(name = "idx_posts_author_created", columnList = "author_id, created_at, post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 풀링 방식 id 할당 (MySQL은 테이블로 시퀀스 대체, 50개 단위로 할당하여 INSERT 배치 가능)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "posts_seq", allocationSize = 50)
+    @Column(name = "post_id")
     @Schema(description = "게시물 id")
     private Long postId;
 
@@ -47,6 +55,19 @@ public class Post extends BaseTimeEntity {
     @Schema(description = "사진 경로")
     private String photoUrl;
 
+    // 변형 경로 (업로드 후 ImagePipeline이 생성, 생성 전에는 null)
+    @Column(name = "thumb_url")
+    @Schema(description = "썸네일 경로")
+    private String thumbUrl;
+
+    @Column(name = "feed_url")
+    @Schema(description = "피드용 사진 경로")
+    private String feedUrl;
+
+    @Column(name = "full_url")
+    @Schema(description = "전체 크기 사진 경로")
+    private String fullUrl;
+
     @Column(name = "caption", length = 500)
     @Schema(description = "설명")
     private String caption;
@@ -55,9 +76,20 @@ public class Post extends BaseTimeEntity {
     @Schema(description = "위치")
     private String location;
 
+    // 좋아요 개수 (LikeCounterBuffer가 일괄 반영하므로 엔티티 변경 시 덮어쓰지 않음)
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Schema(description = "좋아요 개수")
+    private long likeCount;
+
+    // 댓글 개수 (댓글 작성 시 UPDATE 문으로 증가하므로 엔티티 변경 시 덮어쓰지 않음)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Schema(description = "댓글 개수")
+    private long commentCount;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL)
     private List<Comment> comments = new ArrayList<>();
 
+    // (postId, userId) 기본 키로 중복 좋아요 방지
     @ManyToMany
     @JoinTable(
             name = "post_like_member",
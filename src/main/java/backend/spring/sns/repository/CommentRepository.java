@@ -1,11 +1,22 @@
 package backend.spring.sns.repository;
 
 import backend.spring.sns.model.entity.Comment;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
-    List<Comment> findByPostPostId(Long postId);
+    // 게시물별 최신 댓글 limit개 (post_id, comment_id, username, avatar_url, message, created_at)
+    @Query(value = "select t.post_id, t.comment_id, t.username, t.avatar_url, t.message, t.created_at from ("
+            + "select c.post_id, c.comment_id, u.username, u.avatar_url, c.message, c.created_at, "
+            + "row_number() over (partition by c.post_id order by c.created_at desc, c.comment_id desc) as rn "
+            + "from comments c join users u on u.member_id = c.author_id "
+            + "where c.post_id in (:postIds)) t "
+            + "where t.rn <= :limit order by t.post_id, t.rn",
+            nativeQuery = true)
+    List<Object[]> findLatestByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
 
 }
@@ -0,0 +1,11 @@
+package backend.spring.sns.repository;
+
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Comment;
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    List<Comment> findPageWithAuthor(Long postId, PageCursor cursor, int size);
+
+}
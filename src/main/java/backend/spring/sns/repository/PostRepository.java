@@ -3,9 +3,41 @@ package backend.spring.sns.repository;
 import backend.spring.sns.model.entity.Post;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
     Optional<Post> findByPostId(Long postId);
 
-}
\ No newline at end of file
+    // 댓글 개수 조회
+    @Query("select p.commentCount from Post p where p.postId = :postId")
+    Optional<Long> findCommentCount(@Param("postId") Long postId);
+
+    // 사진 변형 경로 저장
+    @Modifying
+    @Query("update Post p set p.thumbUrl = :thumbUrl, p.feedUrl = :feedUrl, p.fullUrl = :fullUrl "
+            + "where p.postId = :postId")
+    int updatePhotoVariants(@Param("postId") Long postId, @Param("thumbUrl") String thumbUrl,
+                            @Param("feedUrl") String feedUrl, @Param("fullUrl") String fullUrl);
+
+    // 댓글 개수 증가 (게시물이 없으면 0 반환)
+    @Modifying
+    @Query(value = "update posts set comment_count = comment_count + 1 where post_id = :postId",
+            nativeQuery = true)
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    // 좋아요 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+    @Modifying
+    @Query(value = "insert ignore into post_like_member (post_id, user_id) values (:postId, :memberId)",
+            nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    // 좋아요 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query(value = "delete from post_like_member where post_id = :postId and user_id = :memberId",
+            nativeQuery = true)
+    int deleteLike(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+}
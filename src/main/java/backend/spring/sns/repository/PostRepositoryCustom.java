@@ -2,10 +2,20 @@ package backend.spring.sns.repository;
 
 import backend.spring.sns.dto.request.PostSearchCondition;
 import backend.spring.sns.dto.response.PostSearchResult;
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Post;
+import backend.spring.sns.timeline.TimelineEntry;
 import java.util.List;
+import java.util.Set;
 
 public interface PostRepositoryCustom {
 
-    List<PostSearchResult> search(PostSearchCondition condition);
+    List<PostSearchResult> search(PostSearchCondition condition, PageCursor cursor, int size);
+
+    List<TimelineEntry> findTimelineEntries(List<Long> authorIds, PageCursor cursor, int size);
+
+    List<Post> findAllWithAuthor(List<Long> postIds);
+
+    Set<Long> findLikedPostIds(Long memberId, List<Long> postIds);
 
 }
@@ -0,0 +1,41 @@
+package backend.spring.sns.repository.impl;
+
+import static backend.spring.member.model.entity.QMember.member;
+import static backend.spring.sns.model.entity.QComment.comment;
+
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Comment;
+import backend.spring.sns.repository.CommentRepositoryCustom;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Comment> findPageWithAuthor(Long postId, PageCursor cursor, int size) {
+        return queryFactory
+                .selectFrom(comment)
+                .join(comment.author, member).fetchJoin()
+                .where(comment.post.postId.eq(postId),
+                        afterCursor(cursor)
+                )
+                .orderBy(comment.createdAt.asc(), comment.commentId.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 커서 이후 댓글 여부
+    private BooleanExpression afterCursor(PageCursor cursor){
+        if (cursor == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursor.createdAt())
+                .or(comment.createdAt.eq(cursor.createdAt()).and(comment.commentId.gt(cursor.id())));
+    }
+
+}
@@ -4,22 +4,60 @@ import static backend.spring.sns.model.entity.QPost.post;
 import static backend.spring.member.model.entity.QMember.member;
 import backend.spring.sns.dto.response.QPostSearchResult;
 
+import backend.spring.member.model.entity.QMember;
 import backend.spring.sns.dto.request.PostSearchCondition;
 import backend.spring.sns.dto.response.PostSearchResult;
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.PostSearchSort;
+import backend.spring.sns.model.entity.Post;
 import backend.spring.sns.repository.PostRepositoryCustom;
+import backend.spring.sns.search.CaptionIndex;
+import backend.spring.sns.timeline.TimelineEntry;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
+    // UNION ALL 한 번에 묶는 작성자 수
+    private static final int TIMELINE_AUTHOR_CHUNK = 100;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final CaptionIndex captionIndex;
 
     @Override
-    public List<PostSearchResult> search(PostSearchCondition condition) {
+    public List<PostSearchResult> search(PostSearchCondition condition, PageCursor cursor, int size) {
+        JPAQuery<PostSearchResult> query = searchQuery(condition, cursor);
+        return query == null ? List.of() : query.limit(size).fetch();
+    }
+
+    // 검색 조건, 커서, 정렬을 적용한 쿼리 (후보가 없으면 null)
+    private JPAQuery<PostSearchResult> searchQuery(PostSearchCondition condition, PageCursor cursor) {
+        // 설명 색인으로 후보 게시물 조회 (후보가 없으면 DB 조회 생략)
+        long[] candidates = condition.caption() == null ? null : captionIndex.search(condition.caption());
+        if (candidates != null && candidates.length == 0) {
+            return null;
+        }
+
+        PostSearchSort sort = condition.sortOrDefault();
         return queryFactory
                 .select(new QPostSearchResult(
                         post.postId,
@@ -28,16 +66,164 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                         post.createdAt,
                         member.memberId,
                         member.name,
-                        member.avatarUrl))
+                        member.avatarUrl,
+                        post.likeCount))
                 .from(post)
                 .leftJoin(post.author, member)
                 .where(memberNameEq(condition.memberName()),
                         locationEq(condition.location()),
+                        postIdIn(candidates),
                         captionContain(condition.caption()),
-                        betweenDate(condition.startDate(), condition.endDate())
+                        betweenDate(condition.startDate(), condition.endDate()),
+                        sort == PostSearchSort.LATEST ? beforeCursor(cursor) : afterCursor(cursor)
                 )
+                .orderBy(searchOrder(sort));
+    }
+
+    // 작성자별로 (author_id, created_at, post_id) 색인을 최대 size개만 읽어 k-way 병합
+    // author_id IN (...) ORDER BY created_at은 커서 이전 모든 게시물을 정렬하므로 작성자별 LIMIT 조회를 UNION ALL로 묶음
+    // 읽는 색인 항목은 작성자 수 × size 이하 (게시물 이력 길이와 무관), 작성자는 묶음 단위로 나누어 조회
+    @Override
+    public List<TimelineEntry> findTimelineEntries(List<Long> authorIds, PageCursor cursor, int size) {
+        if (authorIds.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        List<Long> distinctAuthorIds = authorIds.stream().distinct().toList();
+        List<TimelineEntry> newest = List.of();
+        for (int from = 0; from < distinctAuthorIds.size(); from += TIMELINE_AUTHOR_CHUNK) {
+            List<Long> chunk = distinctAuthorIds.subList(from,
+                    Math.min(from + TIMELINE_AUTHOR_CHUNK, distinctAuthorIds.size()));
+            List<List<TimelineEntry>> lists = new ArrayList<>(findTimelineEntriesByAuthor(chunk, cursor, size));
+            lists.add(newest);
+            newest = mergeNewest(lists, size);
+        }
+        return newest;
+    }
+
+    // 작성자별 최신순 목록
+    private Collection<List<TimelineEntry>> findTimelineEntriesByAuthor(List<Long> authorIds, PageCursor cursor,
+                                                                        int size) {
+        StringBuilder sql = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        for (Long authorId : authorIds) {
+            if (!sql.isEmpty()) {
+                sql.append(" union all ");
+            }
+            sql.append("(select post_id, author_id, created_at from posts where author_id = ?");
+            args.add(authorId);
+            if (cursor != null) {
+                sql.append(" and created_at <= ? and (created_at < ? or post_id < ?)");
+                args.add(cursor.createdAt());
+                args.add(cursor.createdAt());
+                args.add(cursor.id());
+            }
+            sql.append(" order by created_at desc, post_id desc limit ?)");
+            args.add(size);
+        }
+
+        Map<Long, List<TimelineEntry>> byAuthor = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> {
+            TimelineEntry entry = new TimelineEntry(rs.getLong("post_id"), rs.getLong("author_id"),
+                    rs.getObject("created_at", LocalDateTime.class));
+            byAuthor.computeIfAbsent(entry.authorId(), key -> new ArrayList<>()).add(entry);
+        }, args.toArray());
+        // UNION ALL 결과 순서는 보장되지 않으므로 작성자별로 정렬 (이미 정렬되어 있으면 선형 시간)
+        byAuthor.values().forEach(entries -> entries.sort(TimelineEntry.NEWEST_FIRST));
+        return byAuthor.values();
+    }
+
+    // 최신순 목록들을 병합하여 앞의 size개
+    private static List<TimelineEntry> mergeNewest(List<List<TimelineEntry>> lists, int size) {
+        PriorityQueue<PeekingIterator> heads = new PriorityQueue<PeekingIterator>(
+                Comparator.comparing(PeekingIterator::peek, TimelineEntry.NEWEST_FIRST));
+        for (List<TimelineEntry> list : lists) {
+            if (!list.isEmpty()) {
+                heads.add(new PeekingIterator(list.iterator()));
+            }
+        }
+        List<TimelineEntry> merged = new ArrayList<>(size);
+        while (merged.size() < size && !heads.isEmpty()) {
+            PeekingIterator head = heads.poll();
+            merged.add(head.next());
+            if (head.hasNext()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    @Override
+    public List<Post> findAllWithAuthor(List<Long> postIds) {
+        return queryFactory
+                .selectFrom(post)
+                .join(post.author, member).fetchJoin()
+                .where(post.postId.in(postIds))
                 .fetch();
     }
+
+    @Override
+    public Set<Long> findLikedPostIds(Long memberId, List<Long> postIds) {
+        QMember liker = new QMember("liker");
+        return new HashSet<>(queryFactory
+                .select(post.postId)
+                .from(post)
+                .join(post.likeMemberSet, liker)
+                .where(post.postId.in(postIds),
+                        liker.memberId.eq(memberId)
+                )
+                .fetch());
+    }
+
+    // 다음 항목을 미리 볼 수 있는 반복자 (k-way 병합용)
+    private static final class PeekingIterator {
+
+        private final Iterator<TimelineEntry> iterator;
+        private TimelineEntry next;
+
+        PeekingIterator(Iterator<TimelineEntry> iterator) {
+            this.iterator = iterator;
+            this.next = iterator.next();
+        }
+
+        TimelineEntry peek() {
+            return next;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        TimelineEntry next() {
+            TimelineEntry current = next;
+            next = iterator.hasNext() ? iterator.next() : null;
+            return current;
+        }
+
+    }
+
+    // 커서 이전 게시물 여부
+    private BooleanExpression beforeCursor(PageCursor cursor){
+        if (cursor == null) {
+            return null;
+        }
+        return post.createdAt.lt(cursor.createdAt())
+                .or(post.createdAt.eq(cursor.createdAt()).and(post.postId.lt(cursor.id())));
+    }
+    // 커서 이후 게시물 여부
+    private BooleanExpression afterCursor(PageCursor cursor){
+        if (cursor == null) {
+            return null;
+        }
+        return post.createdAt.gt(cursor.createdAt())
+                .or(post.createdAt.eq(cursor.createdAt()).and(post.postId.gt(cursor.id())));
+    }
+    // 검색 정렬 순서
+    private OrderSpecifier<?>[] searchOrder(PostSearchSort sort){
+        if (sort == PostSearchSort.OLDEST) {
+            return new OrderSpecifier<?>[]{post.createdAt.asc(), post.postId.asc()};
+        }
+        return new OrderSpecifier<?>[]{post.createdAt.desc(), post.postId.desc()};
+    }
     // 작성자 이름 일치 여부
     private BooleanExpression memberNameEq(String memberName){
         return memberName == null ? null : member.name.eq(memberName);
@@ -46,12 +232,25 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     private BooleanExpression locationEq(String location){
         return location == null ? null : post.location.eq(location);
     }
-    // 키워드 포함 여부
+    // 색인 후보 포함 여부
+    private BooleanExpression postIdIn(long[] candidates){
+        return candidates == null ? null : post.postId.in(Arrays.stream(candidates).boxed().toList());
+    }
+    // 키워드 포함 여부 (색인 후보의 최종 검증)
     private BooleanExpression captionContain(String caption){
         return caption == null ? null : post.caption.contains(caption);
     }
     // 날짜 해당 여부
     private BooleanExpression betweenDate(LocalDateTime startDate, LocalDateTime endDate){
+        if (startDate == null && endDate == null) {
+            return null;
+        }
+        if (startDate == null) {
+            return post.createdAt.loe(endDate);
+        }
+        if (endDate == null) {
+            return post.createdAt.goe(startDate);
+        }
         return post.createdAt.between(startDate, endDate);
     }
 
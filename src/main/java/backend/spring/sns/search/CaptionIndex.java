@@ -0,0 +1,165 @@
+package backend.spring.sns.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 게시물 설명 역색인 (토큰 -> 압축된 게시물 id 목록)
+@Component
+public class CaptionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptionIndex.class);
+
+    private static final String REBUILD_SQL = "select post_id, caption from posts where post_id > ? and post_id <= ?";
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final int rebuildBatchSize;
+    private final int maxCandidates;
+    private volatile boolean ready;
+
+    public CaptionIndex(JdbcTemplate jdbcTemplate,
+                        @Value("${search.caption-index.rebuild-batch-size:1000}") int rebuildBatchSize,
+                        @Value("${search.caption-index.max-candidates:5000}") int maxCandidates) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.maxCandidates = maxCandidates;
+    }
+
+    // 기동 시 DB에서 색인 재구축 (재구축 중 등록된 게시물도 같은 색인에 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long maxPostId = jdbcTemplate.queryForObject("select coalesce(max(post_id), 0) from posts", Long.class);
+        long indexed = 0;
+        for (long from = 0; from < maxPostId; from += rebuildBatchSize) {
+            List<Object[]> rows = jdbcTemplate.query(REBUILD_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong("post_id"), rs.getString("caption")},
+                    from, Math.min(from + rebuildBatchSize, maxPostId));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    addTokens((Long) row[0], CaptionTokenizer.tokenize((String) row[1]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += rows.size();
+        }
+        ready = true;
+        logger.info("[CaptionIndex] indexed {} posts, {} tokens", indexed, tokenCount());
+    }
+
+    // 게시물 등록
+    public void index(Long postId, String caption) {
+        Set<String> tokens = CaptionTokenizer.tokenize(caption);
+        lock.writeLock().lock();
+        try {
+            addTokens(postId, tokens);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시물 삭제
+    public void remove(Long postId, String caption) {
+        Set<String> tokens = CaptionTokenizer.tokenize(caption);
+        lock.writeLock().lock();
+        try {
+            for (String token : tokens) {
+                removeToken(postId, token);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키워드 후보 게시물 id (오름차순, 색인을 쓸 수 없으면 null)
+    public long[] search(String keyword) {
+        Set<String> tokens = CaptionTokenizer.tokenize(keyword);
+        if (!ready || tokens.isEmpty()) {
+            return null;
+        }
+
+        List<long[]> lists = new ArrayList<>(tokens.size());
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                PostingList postingList = postings.get(token);
+                if (postingList == null) {
+                    return new long[0];
+                }
+                lists.add(postingList.toArray());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 짧은 목록부터 교집합
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        long[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        // 후보가 너무 많으면 IN 조건보다 LIKE 검색이 유리
+        return candidates.length > maxCandidates ? null : candidates;
+    }
+
+    private int tokenCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addTokens(Long postId, Set<String> tokens) {
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new PostingList()).add(postId);
+        }
+    }
+
+    private void removeToken(Long postId, String token) {
+        PostingList postingList = postings.get(token);
+        if (postingList == null) {
+            return;
+        }
+        postingList.remove(postId);
+        if (postingList.isEmpty()) {
+            postings.remove(token);
+        }
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+}
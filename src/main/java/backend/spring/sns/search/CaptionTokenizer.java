@@ -0,0 +1,63 @@
+package backend.spring.sns.search;
+
+import java.lang.Character.UnicodeScript;
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 설명 색인 토큰 추출 (한글은 2-gram, 그 외 문자·숫자는 3-gram)
+// 키워드의 토큰은 항상 키워드를 포함하는 설명의 토큰에 포함되므로 색인은 LIKE 검색의 상위 후보 집합을 만든다
+public final class CaptionTokenizer {
+
+    private static final int HANGUL_GRAM = 2;
+    private static final int DEFAULT_GRAM = 3;
+
+    private CaptionTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = normalize(text);
+        int start = 0;
+        while (start < normalized.length()) {
+            // 문자·숫자가 아닌 구분자 건너뛰기
+            if (!Character.isLetterOrDigit(normalized.charAt(start))) {
+                start++;
+                continue;
+            }
+            // 같은 종류의 문자가 이어지는 구간 단위로 n-gram 생성
+            boolean hangul = isHangul(normalized.charAt(start));
+            int end = start;
+            while (end < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(end))
+                    && isHangul(normalized.charAt(end)) == hangul) {
+                end++;
+            }
+            addGrams(tokens, normalized.substring(start, end), hangul ? HANGUL_GRAM : DEFAULT_GRAM);
+            start = end;
+        }
+        return tokens;
+    }
+
+    // 소문자 변환 및 발음 구별 기호 제거 (DB의 대소문자·악센트 무시 비교와 맞춤)
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return Normalizer.normalize(decomposed.replaceAll("\\p{M}", ""), Normalizer.Form.NFC);
+    }
+
+    private static void addGrams(Set<String> tokens, String run, int gram) {
+        for (int i = 0; i + gram <= run.length(); i++) {
+            tokens.add(run.substring(i, i + gram));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return UnicodeScript.of(c) == UnicodeScript.HANGUL;
+    }
+
+}
@@ -0,0 +1,134 @@
+package backend.spring.sns.search;
+
+import java.util.Arrays;
+
+// 게시물 id 오름차순 목록 (차분값을 가변 길이 정수로 압축하여 byte 배열에 저장)
+// 마지막 id보다 작은 id(재구축 중 등록된 게시물, 다른 인스턴스가 할당한 id)는 따로 모았다가 한 번에 병합
+final class PostingList {
+
+    private static final int MIN_PENDING = 16;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private long lastId;
+
+    // 병합 대기 중인 역순 id (모두 lastId보다 작음, 중복 가능)
+    private long[] pending = new long[0];
+    private int pendingSize;
+
+    void add(long postId) {
+        if (size > 0 && postId <= lastId) {
+            if (postId != lastId) {
+                addPending(postId);
+            }
+            return;
+        }
+        writeVarLong(postId - lastId);
+        lastId = postId;
+        size++;
+    }
+
+    void remove(long postId) {
+        long[] ids = toArray();
+        int index = Arrays.binarySearch(ids, postId);
+        if (index < 0) {
+            return;
+        }
+        long[] remaining = new long[ids.length - 1];
+        System.arraycopy(ids, 0, remaining, 0, index);
+        System.arraycopy(ids, index + 1, remaining, index, ids.length - index - 1);
+        rebuild(remaining);
+    }
+
+    boolean isEmpty() {
+        return size == 0 && pendingSize == 0;
+    }
+
+    // 병합 대기 id까지 포함한 오름차순 id (목록은 바꾸지 않으므로 읽기 잠금으로 호출 가능)
+    long[] toArray() {
+        long[] ids = decode();
+        if (pendingSize == 0) {
+            return ids;
+        }
+        long[] sortedPending = Arrays.copyOf(pending, pendingSize);
+        Arrays.sort(sortedPending);
+        return merge(ids, sortedPending);
+    }
+
+    // 병합 대기 id가 목록 크기에 비례해 쌓이면 병합 (추가 1건당 상수 비용으로 분할 상환)
+    private void addPending(long postId) {
+        if (pendingSize == pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(MIN_PENDING, pending.length * 2));
+        }
+        pending[pendingSize++] = postId;
+        if (pendingSize >= Math.max(MIN_PENDING, size / 8)) {
+            rebuild(toArray());
+        }
+    }
+
+    private long[] decode() {
+        long[] ids = new long[size];
+        long current = 0;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            current += delta;
+            ids[i] = current;
+        }
+        return ids;
+    }
+
+    // 정렬된 두 목록 병합 (중복 제거)
+    private static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (k == 0 || result[k - 1] != next) {
+                result[k++] = next;
+            }
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    private void rebuild(long[] ids) {
+        data = new byte[Math.max(8, ids.length * 2)];
+        length = 0;
+        size = 0;
+        lastId = 0;
+        pending = new long[0];
+        pendingSize = 0;
+        for (long id : ids) {
+            writeVarLong(id - lastId);
+            lastId = id;
+            size++;
+        }
+    }
+
+    private void writeVarLong(long value) {
+        if (data.length - length < 10) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        }
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+}
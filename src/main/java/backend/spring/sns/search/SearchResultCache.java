@@ -0,0 +1,97 @@
+package backend.spring.sns.search;
+
+import backend.spring.cache.BoundedTtlCache;
+import backend.spring.sns.dto.request.PostSearchCondition;
+import backend.spring.sns.dto.response.PostSearchResult;
+import backend.spring.sns.model.entity.Post;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 정규화된 검색 조건별 검색 결과 캐시 (좋아요 여부는 캐시하지 않음)
+@Component
+public class SearchResultCache {
+
+    private final BoundedTtlCache<PostSearchCondition, List<PostSearchResult>> cache;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${search.cache.max-entries:1000}") int maxEntries,
+                             @Value("${search.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = new BoundedTtlCache<>("post.search", maxEntries, Duration.ofSeconds(ttlSeconds), meterRegistry);
+    }
+
+    // 같은 검색이 같은 키가 되도록 공백, 기본값 정리
+    public static PostSearchCondition normalize(PostSearchCondition condition, int pageSize) {
+        return new PostSearchCondition(
+                trimToNull(condition.memberName()),
+                trimToNull(condition.location()),
+                trimToNull(condition.caption()),
+                condition.startDate(),
+                condition.endDate(),
+                trimToNull(condition.cursor()),
+                pageSize,
+                condition.sortOrDefault());
+    }
+
+    public List<PostSearchResult> get(PostSearchCondition normalizedCondition) {
+        return cache.get(normalizedCondition);
+    }
+
+    public void put(PostSearchCondition normalizedCondition, List<PostSearchResult> results) {
+        cache.put(normalizedCondition, List.copyOf(results));
+    }
+
+    // 트랜잭션 커밋 후 새 게시물이 포함될 수 있는 검색 결과 제거
+    public void invalidateAfterCommit(Post post) {
+        String location = post.getLocation();
+        String authorName = post.getAuthor().getName();
+        Set<String> captionTokens = CaptionTokenizer.tokenize(post.getCaption());
+        LocalDateTime createdAt = post.getCreatedAt() == null ? LocalDateTime.now() : post.getCreatedAt();
+
+        Runnable invalidation = () -> cache.invalidateIf(condition ->
+                affects(condition, location, authorName, captionTokens, createdAt));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
+
+    // 지역, 작성자, 키워드, 날짜 조건이 모두 새 게시물과 맞을 수 있는지 여부 (DB와 같이 대소문자 무시)
+    private static boolean affects(PostSearchCondition condition, String location, String authorName,
+                                   Set<String> captionTokens, LocalDateTime createdAt) {
+        if (condition.location() != null && !condition.location().equalsIgnoreCase(location)) {
+            return false;
+        }
+        if (condition.memberName() != null && !condition.memberName().equalsIgnoreCase(authorName)) {
+            return false;
+        }
+        // 키워드 토큰이 설명 토큰에 없으면 결과에 포함될 수 없음
+        if (condition.caption() != null && !captionTokens.containsAll(CaptionTokenizer.tokenize(condition.caption()))) {
+            return false;
+        }
+        if (condition.startDate() != null && condition.startDate().isAfter(createdAt)) {
+            return false;
+        }
+        return condition.endDate() == null || !condition.endDate().isBefore(createdAt);
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.strip();
+    }
+
+}
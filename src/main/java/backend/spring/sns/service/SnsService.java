@@ -3,29 +3,30 @@ package backend.spring.sns.service;
 import backend.spring.sns.dto.request.CommentWriteRequest;
 import backend.spring.sns.dto.request.PostSearchCondition;
 import backend.spring.sns.dto.request.PostUploadRequest;
-import backend.spring.sns.dto.response.CommentResponse;
-import backend.spring.sns.dto.response.PostResponse;
-import backend.spring.sns.dto.response.PostSearchResult;
+import backend.spring.sns.dto.response.CommentPageResponse;
+import backend.spring.sns.dto.response.FeedResponse;
+import backend.spring.sns.dto.response.PostSearchPageResponse;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
 import org.springframework.stereotype.Service;
 
 @Service
 public interface SnsService {
 
-    void registerPost(Long memberId, PostUploadRequest uploadParam) throws IOException;
+    Long registerPost(Long memberId, PostUploadRequest uploadParam) throws IOException;
 
-    List<PostResponse> getAllPosts(Long memberId);
+    FeedResponse getFeed(Long memberId, String cursor, int size);
 
     void writeComment(Long memberId, Long postId, CommentWriteRequest wirteParam);
 
-    List<CommentResponse> getComments(Long postId);
+    CommentPageResponse getComments(Long postId, String cursor, int size);
 
     void likePost(Long memberId, Long postId);
 
     void unlikePost(Long memberId, Long postId);
 
-    List<PostSearchResult> searchByConditions(PostSearchCondition conditionParam);
+    PostSearchPageResponse searchByConditions(Long memberId, PostSearchCondition conditionParam);
 
+    void streamByConditions(Long memberId, PostSearchCondition conditionParam, OutputStream out) throws IOException;
 
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package backend.spring.sns.service;
+
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Post;
+import backend.spring.sns.timeline.TimelineEntry;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TimelineService {
+
+    void fanOut(Post post);
+
+    void fanOutAfterCommit(Post post);
+
+    void backfill(Long memberId, Long authorId);
+
+    void prune(Long memberId, Long authorId);
+
+    List<TimelineEntry> readTimeline(Long memberId, PageCursor cursor, int size);
+
+}
@@ -5,34 +5,60 @@ import static backend.spring.sns.exception.constants.SnsExceptionMessages.POST_I
 
 import backend.spring.member.exception.MemberNotFoundException;
 import backend.spring.sns.exception.PostNotFoundException;
-import backend.spring.file.service.FileService;
-import backend.spring.file.FileServiceFactory;
+import backend.spring.file.PhotoStorage;
+import backend.spring.file.model.StoredPhoto;
 import backend.spring.sns.dto.request.CommentWriteRequest;
 import backend.spring.sns.dto.request.PostSearchCondition;
 import backend.spring.sns.dto.request.PostUploadRequest;
+import backend.spring.sns.dto.response.CommentPageResponse;
 import backend.spring.sns.dto.response.CommentResponse;
+import backend.spring.sns.dto.response.FeedResponse;
 import backend.spring.sns.dto.response.PostResponse;
+import backend.spring.sns.dto.response.PostSearchPageResponse;
 import backend.spring.sns.dto.response.PostSearchResult;
 import backend.spring.sns.dto.response.mapper.CommentResponseMapper;
 import backend.spring.sns.dto.response.mapper.PostResponseMapper;
+import backend.spring.sns.counter.LikeCounterBuffer;
+import backend.spring.sns.image.ImagePipeline;
+import backend.spring.sns.model.PageCursor;
 import backend.spring.sns.model.entity.Comment;
 import backend.spring.sns.repository.CommentRepository;
 import backend.spring.member.model.entity.Member;
 import backend.spring.sns.model.entity.Post;
 import backend.spring.sns.repository.PostRepository;
+import backend.spring.sns.search.CaptionIndex;
+import backend.spring.sns.search.SearchResultCache;
 import backend.spring.sns.service.SnsService;
+import backend.spring.sns.service.TimelineService;
+import backend.spring.sns.timeline.TimelineEntry;
 import backend.spring.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
 @Service
 public class SnsServiceImpl implements SnsService {
 
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MAX_COMMENT_SIZE = 100;
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     @Autowired
     private final PostRepository postRepository;
     @Autowired
@@ -40,126 +66,316 @@ public class SnsServiceImpl implements SnsService {
     @Autowired
     private final MemberRepository memberRepository;
     @Autowired
-    private final FileService fileService;
+    private final PhotoStorage photoStorage;
     @Autowired
     private final PostResponseMapper postResponseMapper;
     @Autowired
     private final CommentResponseMapper commentResponseMapper;
+    @Autowired
+    private final TimelineService timelineService;
+    @Autowired
+    private final LikeCounterBuffer likeCounterBuffer;
+    @Autowired
+    private final CaptionIndex captionIndex;
+    @Autowired
+    private final SearchResultCache searchResultCache;
+    @Autowired
+    private final ObjectMapper objectMapper;
+    @Autowired
+    private final ImagePipeline imagePipeline;
+    @Autowired
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${feed.comment-preview-size:2}")
+    private int commentPreviewSize;
 
     public SnsServiceImpl(PostRepository postRepository, CommentRepository commentRepository,
-                          MemberRepository memberRepository, PostResponseMapper postResponseMapper,
-                          CommentResponseMapper commentResponseMapper){
+                          MemberRepository memberRepository, PhotoStorage photoStorage,
+                          PostResponseMapper postResponseMapper,
+                          CommentResponseMapper commentResponseMapper, TimelineService timelineService,
+                          LikeCounterBuffer likeCounterBuffer, CaptionIndex captionIndex,
+                          SearchResultCache searchResultCache, ObjectMapper objectMapper,
+                          ImagePipeline imagePipeline, TransactionTemplate transactionTemplate){
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.memberRepository = memberRepository;
-        this.fileService = FileServiceFactory.create(System.getProperty("spring.profiles.active"));
+        this.photoStorage = photoStorage;
         this.postResponseMapper = postResponseMapper;
         this.commentResponseMapper = commentResponseMapper;
+        this.timelineService = timelineService;
+        this.likeCounterBuffer = likeCounterBuffer;
+        this.captionIndex = captionIndex;
+        this.searchResultCache = searchResultCache;
+        this.objectMapper = objectMapper;
+        this.imagePipeline = imagePipeline;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    // 게시물 등록
+    // 게시물 등록 (사진 업로드 동안 DB 연결을 잡지 않도록 트랜잭션 밖에서 업로드 후 짧은 트랜잭션으로 저장)
     @Override
-    public void registerPost(Long memberId, PostUploadRequest uploadParam) throws IOException {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long registerPost(Long memberId, PostUploadRequest uploadParam) throws IOException {
+        // 1단계: 내용 해시 이름으로 사진 저장 (같은 사진이 이미 있으면 업로드 생략)
+        StoredPhoto storedPhoto = photoStorage.store(uploadParam.photo());
+        Path stagedPhoto = null;
+        try {
+            // 변형 생성용 임시 복사본
+            stagedPhoto = imagePipeline.stage(uploadParam.photo());
+
+            // 2단계: 게시물 저장
+            Path source = stagedPhoto;
+            return transactionTemplate.execute(status -> savePost(memberId, uploadParam, storedPhoto, source));
+        } catch (IOException | RuntimeException e) {
+            // 보상: 사진 참조 해제 (참조가 없으면 유예 기간 후 정리), 임시 복사본 삭제
+            // 여기까지 오지 못하고 종료되면 확정 대기 참조를 PhotoGarbageCollector가 만료 처리
+            photoStorage.abandon(storedPhoto);
+            imagePipeline.discard(stagedPhoto);
+            throw e;
+        }
+    }
+
+    private Long savePost(Long memberId, PostUploadRequest uploadParam, StoredPhoto storedPhoto, Path stagedPhoto) {
         // 로그인 중인 회원 조회
         Member currentMember = findMember(memberId);
 
-        // 사진 경로 반환
-        String photoName = UUID.randomUUID() + "_" + uploadParam.photo().getOriginalFilename();
-        String photoUrl = fileService.uploadPhoto(uploadParam.photo(), photoName);
-
         // 게시물 저장
         Post post = Post.builder()
                 .author(currentMember)
-                .photoUrl(photoUrl)
+                .photoUrl(storedPhoto.photoUrl())
                 .caption(uploadParam.caption())
                 .location(uploadParam.location())
                 .build();
         postRepository.save(post);
+        memberRepository.incrementPostCount(memberId);
+
+        // 게시물과 함께 사진 참조 확정
+        photoStorage.confirm(storedPhoto);
+
+        // 커밋 후 썸네일 및 해상도별 변형 생성
+        imagePipeline.submitAfterCommit(post.getPostId(), storedPhoto.photoName(), stagedPhoto);
+
+        // 설명 검색 색인에 추가
+        captionIndex.index(post.getPostId(), post.getCaption());
+
+        // 새 게시물이 포함될 수 있는 검색 결과 캐시 제거
+        searchResultCache.invalidateAfterCommit(post);
+
+        // 커밋 후 팔로워 타임라인에 전파
+        timelineService.fanOutAfterCommit(post);
+        return post.getPostId();
     }
 
-    // 게시물 전체 조회
+    // 피드 조회 (팔로잉 회원 및 본인 게시물)
     @Override
-    public List<PostResponse> getAllPosts(Long memberId) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
+    public FeedResponse getFeed(Long memberId, String cursor, int size) {
+        // 타임라인에서 커서 이후 게시물 id 조회
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        List<TimelineEntry> entries = timelineService.readTimeline(memberId, PageCursor.decode(cursor), pageSize);
+
+        // 타임라인 순서대로 게시물 조회
+        List<Post> posts = findPostsInOrder(entries);
+        List<Long> postIds = posts.stream()
+                .map(Post::getPostId)
+                .toList();
 
-        // 게시물 전체 조회
-        List<Post> posts = postRepository.findAll();
+        // 좋아요 개수 (반영 대기 중인 증감 포함)
+        Map<Long, Long> likeCounts = posts.stream()
+                .collect(Collectors.toMap(Post::getPostId, post -> currentLikeCount(post.getPostId(), post.getLikeCount())));
 
-        // 게시물 응답 DTO 변환
-        List<PostResponse> postResponses = postResponseMapper.toPostResponses(posts, currentMember);
-        return postResponses;
+        // 게시물 응답 DTO 변환 (좋아요 여부, 최신 댓글은 페이지 단위로 일괄 조회)
+        List<PostResponse> postResponses = postResponseMapper.toPostResponses(posts,
+                findLikedPostIds(memberId, postIds), likeCounts, findLatestComments(postIds));
+        return new FeedResponse(postResponses, nextCursor(entries, pageSize));
+    }
+
+    // 타임라인 순서를 유지하여 게시물 반환
+    private List<Post> findPostsInOrder(List<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = entries.stream()
+                .map(TimelineEntry::postId)
+                .toList();
+        Map<Long, Post> postMap = postRepository.findAllWithAuthor(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 다음 페이지 커서 (마지막 페이지는 null)
+    private String nextCursor(List<TimelineEntry> entries, int pageSize) {
+        if (entries.size() < pageSize) {
+            return null;
+        }
+        return entries.get(entries.size() - 1).toCursor().encode();
     }
 
     // 게시물 댓글 작성
     @Override
     public void writeComment(Long memberId, Long postId, CommentWriteRequest wirteParam) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
-
-        // 게시물 조회
-        Post post = findPost(postId);
+        // 댓글 개수 증가 (게시물이 없으면 예외)
+        if (postRepository.incrementCommentCount(postId) == 0) {
+            throw new PostNotFoundException(POST_ID_NOT_FOUND.getMessage());
+        }
 
-        // 댓글 저장
+        // 댓글 저장 (작성자와 게시물은 프록시로 참조)
         Comment comment = Comment.builder()
-                .author(currentMember)
-                .post(post)
+                .author(memberRepository.getReferenceById(memberId))
+                .post(postRepository.getReferenceById(postId))
                 .message(wirteParam.message())
                 .build();
         commentRepository.save(comment);
     }
 
-    // 게시물 댓글 조회
+    // 게시물 댓글 조회 (작성 순)
     @Override
-    public List<CommentResponse> getComments(Long postId) {
-        // 게시물 조회
-        Post post = findPost(postId);
+    public CommentPageResponse getComments(Long postId, String cursor, int size) {
+        // 댓글 개수 조회 (게시물이 없으면 예외)
+        long commentCount = postRepository.findCommentCount(postId)
+                .orElseThrow(() -> new PostNotFoundException(POST_ID_NOT_FOUND.getMessage()));
 
-        // 게시물 댓글 조회
-        List<Comment> comments = commentRepository.findByPostPostId(postId);
+        // 커서 이후 댓글을 작성자와 함께 조회
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_SIZE);
+        List<Comment> comments = commentRepository.findPageWithAuthor(postId, PageCursor.decode(cursor), pageSize);
 
         // 댓글 응답 DTO 변환
         List<CommentResponse> commentResponses = commentResponseMapper.toCommentResponses(comments);
-        return commentResponses;
+        return new CommentPageResponse(commentResponses, nextCommentCursor(comments, pageSize), commentCount);
+    }
+
+    // 다음 댓글 페이지 커서 (마지막 페이지는 null)
+    private String nextCommentCursor(List<Comment> comments, int pageSize) {
+        if (comments.size() < pageSize) {
+            return null;
+        }
+        Comment last = comments.get(comments.size() - 1);
+        return new PageCursor(last.getCreatedAt(), last.getCommentId()).encode();
     }
 
-    // 게시물 좋아요
+    // 게시물 좋아요 (중복 요청은 무시)
     @Override
     public void likePost(Long memberId, Long postId) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
-
-        // 게시물 조회
-        Post post = findPost(postId);
-
         // 좋아요 목록에 추가
-        post.getLikeMemberSet().add(currentMember);
+        if (postRepository.insertLike(postId, memberId) == 0) {
+            // 이미 좋아요 했거나 게시물이 없는 경우
+            validatePostExists(postId);
+            return;
+        }
+        likeCounterBuffer.addAfterCommit(postId, 1);
     }
 
-    // 게시물 좋아요 취소
+    // 게시물 좋아요 취소 (중복 요청은 무시)
     @Override
     public void unlikePost(Long memberId, Long postId) {
-        // 로그인 중인 회원 조회
-        Member currentMember = findMember(memberId);
+        // 좋아요 목록에서 삭제
+        if (postRepository.deleteLike(postId, memberId) == 0) {
+            // 좋아요 하지 않았거나 게시물이 없는 경우
+            validatePostExists(postId);
+            return;
+        }
+        likeCounterBuffer.addAfterCommit(postId, -1);
+    }
 
-        // 게시물 조회
-        Post post = findPost(postId);
+    // 검색 조건으로 게시물 조회 (커서 기반 페이지)
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchPageResponse searchByConditions(Long memberId, PostSearchCondition conditionParam) {
+        int pageSize = conditionParam.size() == null ? DEFAULT_SEARCH_SIZE
+                : Math.min(Math.max(conditionParam.size(), 1), MAX_SEARCH_SIZE);
+        PageCursor cursor = PageCursor.decode(conditionParam.cursor());
 
-        // 좋아요 목록에서 삭제
-        post.getLikeMemberSet().remove(currentMember);
+        // 정규화된 검색 조건으로 캐시 조회 (없으면 DB 조회 후 저장)
+        PostSearchCondition cacheKey = SearchResultCache.normalize(conditionParam, pageSize);
+        List<PostSearchResult> results = searchResultCache.get(cacheKey);
+        if (results == null) {
+            results = postRepository.search(cacheKey, cursor, pageSize);
+            searchResultCache.put(cacheKey, results);
+        }
+        return new PostSearchPageResponse(withLikes(memberId, results), nextSearchCursor(results, pageSize));
     }
 
-    // 검색 조건으로 게시물 조회
+    // 검색 조건으로 게시물 조회 (전체 결과를 NDJSON으로 스트리밍)
+    // 드라이버 스트리밍 결과셋이 열린 동안에는 같은 연결로 좋아요 조회를 할 수 없으므로 키셋 페이지 단위로 조회
     @Override
-    public List<PostSearchResult> searchByConditions(PostSearchCondition conditionParam) {
-        return postRepository.search(conditionParam);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamByConditions(Long memberId, PostSearchCondition conditionParam, OutputStream out)
+            throws IOException {
+        // 페이지 검색과 같은 조건이 되도록 공백, 기본값 정리
+        PostSearchCondition condition = SearchResultCache.normalize(conditionParam, STREAM_CHUNK_SIZE);
+
+        // 묶음 단위로 좋아요 여부를 반영하여 기록 (힙 사용량은 묶음 크기로 제한)
+        PageCursor cursor = PageCursor.decode(condition.cursor());
+        List<PostSearchResult> chunk;
+        do {
+            chunk = postRepository.search(condition, cursor, STREAM_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            writeNdjson(withLikes(memberId, chunk), out);
+            PostSearchResult last = chunk.get(chunk.size() - 1);
+            cursor = new PageCursor(last.createdAt(), last.postId());
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
     }
 
-    // 게시물 반환
-    private Post findPost(Long postId){
-        Post findPost = postRepository.findByPostId(postId)
-                .orElseThrow(() -> new PostNotFoundException(POST_ID_NOT_FOUND.getMessage()));
-        return findPost;
+    // 한 줄에 하나의 JSON 객체로 기록
+    private void writeNdjson(List<PostSearchResult> results, OutputStream out) throws IOException {
+        for (PostSearchResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    // 좋아요 여부 및 개수 반영
+    private List<PostSearchResult> withLikes(Long memberId, List<PostSearchResult> results) {
+        List<Long> postIds = results.stream()
+                .map(PostSearchResult::postId)
+                .toList();
+        Set<Long> likedPostIds = findLikedPostIds(memberId, postIds);
+        return results.stream()
+                .map(result -> result.withLikes(likedPostIds.contains(result.postId()),
+                        currentLikeCount(result.postId(), result.likeCount())))
+                .toList();
+    }
+
+    // 다음 검색 페이지 커서 (마지막 페이지는 null)
+    private String nextSearchCursor(List<PostSearchResult> results, int pageSize) {
+        if (results.size() < pageSize) {
+            return null;
+        }
+        PostSearchResult last = results.get(results.size() - 1);
+        return new PageCursor(last.createdAt(), last.postId()).encode();
+    }
+
+    // 회원이 좋아요 한 게시물 id
+    private Set<Long> findLikedPostIds(Long memberId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+        return postRepository.findLikedPostIds(memberId, postIds);
+    }
+
+    // 게시물별 최신 댓글 미리보기
+    private Map<Long, List<CommentResponse>> findLatestComments(List<Long> postIds) {
+        if (postIds.isEmpty() || commentPreviewSize <= 0) {
+            return Map.of();
+        }
+        return commentResponseMapper.toLatestComments(
+                commentRepository.findLatestByPostIds(postIds, commentPreviewSize));
+    }
+
+    // 저장된 좋아요 개수와 반영 대기 중인 증감의 합
+    private long currentLikeCount(Long postId, long storedLikeCount) {
+        return storedLikeCount + likeCounterBuffer.pending(postId);
+    }
+
+    // 게시물 존재 여부 검증
+    private void validatePostExists(Long postId){
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(POST_ID_NOT_FOUND.getMessage());
+        }
     }
 
     // 회원 반환
@@ -0,0 +1,204 @@
+package backend.spring.sns.service.impl;
+
+import backend.spring.member.graph.FollowGraph;
+import backend.spring.member.repository.MemberRepository;
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Post;
+import backend.spring.sns.repository.PostRepository;
+import backend.spring.sns.service.TimelineService;
+import backend.spring.sns.timeline.TimelineEntry;
+import backend.spring.sns.timeline.TimelinePage;
+import backend.spring.sns.timeline.TimelineStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class TimelineServiceImpl implements TimelineService {
+
+    private final TimelineStore timelineStore;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final FollowGraph followGraph;
+    private final int capacity;
+    private final long celebrityThreshold;
+
+    // 팔로워 수가 많아 쓰기 시점 전파 대신 읽기 시점에 병합하는 회원
+    private final Set<Long> celebrityIds = ConcurrentHashMap.newKeySet();
+
+    public TimelineServiceImpl(TimelineStore timelineStore, PostRepository postRepository,
+                               MemberRepository memberRepository, FollowGraph followGraph,
+                               @Value("${timeline.capacity:800}") int capacity,
+                               @Value("${timeline.celebrity-threshold:10000}") long celebrityThreshold) {
+        this.timelineStore = timelineStore;
+        this.postRepository = postRepository;
+        this.memberRepository = memberRepository;
+        this.followGraph = followGraph;
+        this.capacity = capacity;
+        this.celebrityThreshold = celebrityThreshold;
+    }
+
+    // 기동 시 셀럽 회원 목록 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCelebrities() {
+        celebrityIds.addAll(memberRepository.findCelebrityIds(celebrityThreshold));
+    }
+
+    // 게시물을 작성자 및 팔로워 타임라인에 전파
+    @Override
+    public void fanOut(Post post) {
+        fanOut(TimelineEntry.of(post));
+    }
+
+    // 트랜잭션 커밋 후 전파 (롤백된 게시물이 타임라인에 남거나 커밋 전에 조회되지 않도록)
+    @Override
+    public void fanOutAfterCommit(Post post) {
+        TimelineEntry entry = TimelineEntry.of(post);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fanOut(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fanOut(entry);
+            }
+        });
+    }
+
+    private void fanOut(TimelineEntry entry) {
+        Long authorId = entry.authorId();
+
+        // 작성자 본인 타임라인
+        timelineStore.push(authorId, entry);
+
+        // 셀럽 게시물은 읽기 시점에 병합
+        if (isCelebrity(authorId)) {
+            return;
+        }
+        for (Long followerId : findFollowerIds(authorId)) {
+            timelineStore.push(followerId, entry);
+        }
+    }
+
+    // 팔로우 시 작성자의 최근 게시물 채워 넣기
+    @Override
+    public void backfill(Long memberId, Long authorId) {
+        if (!timelineStore.contains(memberId) || isCelebrity(authorId)) {
+            return;
+        }
+        List<TimelineEntry> entries = postRepository.findTimelineEntries(List.of(authorId), null, capacity);
+        // 용량만큼 조회되면 더 오래된 게시물이 남아 있을 수 있으므로 끝에서 DB로 이어서 조회하도록 표시
+        timelineStore.pushAll(memberId, entries, entries.size() < capacity);
+    }
+
+    // 언팔로우 시 작성자 게시물 제거
+    @Override
+    public void prune(Long memberId, Long authorId) {
+        timelineStore.removeAuthor(memberId, authorId);
+    }
+
+    // 커서 이후 타임라인 조회
+    @Override
+    public List<TimelineEntry> readTimeline(Long memberId, PageCursor cursor, int size) {
+        TimelinePage page = timelineStore.range(memberId, cursor, size);
+        if (page == null) {
+            warmUp(memberId);
+            page = timelineStore.range(memberId, cursor, size);
+        }
+
+        TreeSet<TimelineEntry> merged = new TreeSet<>(TimelineEntry.NEWEST_FIRST);
+        if (page != null) {
+            merged.addAll(page.entries());
+        }
+
+        // 용량 제한으로 잘린 타임라인의 끝에 도달하면 DB에서 이어서 조회
+        if (page == null || (page.entries().size() < size && !page.complete())) {
+            PageCursor from = merged.isEmpty() ? cursor : merged.last().toCursor();
+            merged.addAll(postRepository.findTimelineEntries(fanOutAuthorIds(memberId), from, size - merged.size()));
+        }
+
+        // 팔로잉 중인 셀럽 게시물 병합
+        List<Long> followingCelebrityIds = findFollowingCelebrityIds(memberId);
+        if (!followingCelebrityIds.isEmpty()) {
+            merged.addAll(postRepository.findTimelineEntries(followingCelebrityIds, cursor, size));
+        }
+
+        return merged.stream()
+                .limit(size)
+                .toList();
+    }
+
+    // DB에서 타임라인 생성
+    private void warmUp(Long memberId) {
+        List<TimelineEntry> entries = postRepository.findTimelineEntries(fanOutAuthorIds(memberId), null, capacity);
+        timelineStore.create(memberId, entries, entries.size() < capacity);
+    }
+
+    // 타임라인에 전파되는 작성자 id 목록 (셀럽 제외 팔로잉 회원 및 본인)
+    private List<Long> fanOutAuthorIds(Long memberId) {
+        List<Long> authorIds = new ArrayList<>(findFollowingIds(memberId));
+        authorIds.removeAll(celebrityIds);
+        authorIds.add(memberId);
+        return authorIds;
+    }
+
+    private List<Long> findFollowingCelebrityIds(Long memberId) {
+        if (celebrityIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (followGraph.isReady()) {
+            return celebrityIds.stream()
+                    .filter(celebrityId -> followGraph.follows(memberId, celebrityId))
+                    .toList();
+        }
+        return memberRepository.findFollowingIdsIn(memberId, celebrityIds);
+    }
+
+    // 팔로잉 회원 id (그래프 적재 전에는 DB 조회)
+    private List<Long> findFollowingIds(Long memberId) {
+        if (followGraph.isReady()) {
+            return Arrays.stream(followGraph.followingIds(memberId)).boxed().toList();
+        }
+        return memberRepository.findFollowingIds(memberId);
+    }
+
+    // 팔로워 회원 id (그래프 적재 전에는 DB 조회)
+    private List<Long> findFollowerIds(Long memberId) {
+        if (followGraph.isReady()) {
+            return Arrays.stream(followGraph.followerIds(memberId)).boxed().toList();
+        }
+        return memberRepository.findFollowerIds(memberId);
+    }
+
+    // 팔로워 수 (그래프 적재 전에는 DB 조회)
+    private long countFollowers(Long memberId) {
+        if (followGraph.isReady()) {
+            return followGraph.followerCount(memberId);
+        }
+        return memberRepository.countFollowers(memberId);
+    }
+
+    // 셀럽 여부 (기준을 넘으면 이후 전파 생략)
+    private boolean isCelebrity(Long authorId) {
+        if (celebrityIds.contains(authorId)) {
+            return true;
+        }
+        if (countFollowers(authorId) >= celebrityThreshold) {
+            celebrityIds.add(authorId);
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,32 @@
+package backend.spring.sns.timeline;
+
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.model.entity.Post;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// 타임라인 항목 (게시물 id, 작성자 id, 생성 날짜)
+public record TimelineEntry(Long postId, Long authorId, LocalDateTime createdAt) {
+
+    // 최신순 정렬 (생성 날짜, 게시물 id 내림차순)
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntry::createdAt, Comparator.reverseOrder())
+            .thenComparing(TimelineEntry::postId, Comparator.reverseOrder());
+
+    public TimelineEntry {
+    }
+
+    public static TimelineEntry of(Post post) {
+        return new TimelineEntry(post.getPostId(), post.getAuthor().getMemberId(), post.getCreatedAt());
+    }
+
+    // 커서 위치를 나타내는 비교용 항목
+    public static TimelineEntry at(PageCursor cursor) {
+        return new TimelineEntry(cursor.id(), null, cursor.createdAt());
+    }
+
+    public PageCursor toCursor() {
+        return new PageCursor(createdAt, postId);
+    }
+
+}
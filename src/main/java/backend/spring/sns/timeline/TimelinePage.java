@@ -0,0 +1,11 @@
+package backend.spring.sns.timeline;
+
+import java.util.List;
+
+// 타임라인 범위 조회 결과 (complete: 타임라인이 작성자들의 전체 게시물을 담고 있는지 여부)
+public record TimelinePage(List<TimelineEntry> entries, boolean complete) {
+
+    public TimelinePage {
+    }
+
+}
@@ -0,0 +1,20 @@
+package backend.spring.sns.timeline;
+
+import backend.spring.sns.model.PageCursor;
+import java.util.List;
+
+public interface TimelineStore {
+
+    boolean contains(Long memberId);
+
+    void create(Long memberId, List<TimelineEntry> entries, boolean complete);
+
+    void push(Long memberId, TimelineEntry entry);
+
+    void pushAll(Long memberId, List<TimelineEntry> entries, boolean complete);
+
+    void removeAuthor(Long memberId, Long authorId);
+
+    TimelinePage range(Long memberId, PageCursor cursor, int size);
+
+}
@@ -0,0 +1,159 @@
+package backend.spring.sns.timeline.impl;
+
+import backend.spring.sns.model.PageCursor;
+import backend.spring.sns.timeline.TimelineEntry;
+import backend.spring.sns.timeline.TimelinePage;
+import backend.spring.sns.timeline.TimelineStore;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final ConcurrentHashMap<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxMembers;
+
+    public InMemoryTimelineStore(@Value("${timeline.capacity:800}") int capacity,
+                                 @Value("${timeline.max-members:100000}") int maxMembers) {
+        this.capacity = capacity;
+        this.maxMembers = maxMembers;
+    }
+
+    @Override
+    public boolean contains(Long memberId) {
+        return timelines.containsKey(memberId);
+    }
+
+    // 타임라인 생성 (기존 타임라인은 교체)
+    @Override
+    public void create(Long memberId, List<TimelineEntry> entries, boolean complete) {
+        Timeline timeline = new Timeline(complete);
+        entries.forEach(timeline::add);
+        timeline.trim(capacity);
+
+        evictIfFull();
+        timelines.put(memberId, timeline);
+    }
+
+    // 항목 추가 (타임라인이 없으면 첫 조회 시 DB에서 생성)
+    @Override
+    public void push(Long memberId, TimelineEntry entry) {
+        Timeline timeline = timelines.get(memberId);
+        if (timeline == null) {
+            return;
+        }
+        timeline.add(entry);
+        timeline.trim(capacity);
+    }
+
+    // 항목 일괄 추가 (complete가 false면 추가한 항목보다 오래된 항목이 DB에 남아 있음)
+    @Override
+    public void pushAll(Long memberId, List<TimelineEntry> entries, boolean complete) {
+        Timeline timeline = timelines.get(memberId);
+        if (timeline == null) {
+            return;
+        }
+        entries.forEach(timeline::add);
+        if (!complete) {
+            timeline.markIncomplete();
+        }
+        timeline.trim(capacity);
+    }
+
+    // 작성자의 항목 제거
+    @Override
+    public void removeAuthor(Long memberId, Long authorId) {
+        Timeline timeline = timelines.get(memberId);
+        if (timeline == null) {
+            return;
+        }
+        timeline.removeIf(entry -> entry.authorId().equals(authorId));
+    }
+
+    // 커서 이후 항목 범위 조회 (타임라인이 없으면 null)
+    @Override
+    public TimelinePage range(Long memberId, PageCursor cursor, int size) {
+        Timeline timeline = timelines.get(memberId);
+        if (timeline == null) {
+            return null;
+        }
+        return timeline.range(cursor, size);
+    }
+
+    // 보관 회원 수 초과 시 임의의 타임라인 제거 (다음 조회 시 재생성)
+    private void evictIfFull() {
+        Iterator<Long> iterator = timelines.keySet().iterator();
+        while (timelines.size() >= maxMembers && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // 회원별 최신순 타임라인 (읽기는 잠금 없이 수행)
+    private static class Timeline {
+
+        private final ConcurrentSkipListSet<TimelineEntry> entries =
+                new ConcurrentSkipListSet<>(TimelineEntry.NEWEST_FIRST);
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile boolean complete;
+
+        Timeline(boolean complete) {
+            this.complete = complete;
+        }
+
+        void add(TimelineEntry entry) {
+            if (entries.add(entry)) {
+                size.incrementAndGet();
+            }
+        }
+
+        void markIncomplete() {
+            complete = false;
+        }
+
+        // 용량 초과 시 오래된 항목부터 제거
+        void trim(int capacity) {
+            while (size.get() > capacity) {
+                if (entries.pollLast() == null) {
+                    return;
+                }
+                size.decrementAndGet();
+                complete = false;
+            }
+        }
+
+        void removeIf(Predicate<TimelineEntry> predicate) {
+            for (TimelineEntry entry : entries) {
+                if (predicate.test(entry) && entries.remove(entry)) {
+                    size.decrementAndGet();
+                }
+            }
+        }
+
+        TimelinePage range(PageCursor cursor, int limit) {
+            NavigableSet<TimelineEntry> view = cursor == null
+                    ? entries
+                    : entries.tailSet(TimelineEntry.at(cursor), false);
+
+            List<TimelineEntry> page = new ArrayList<>(limit);
+            for (TimelineEntry entry : view) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(entry);
+            }
+            return new TimelinePage(page, complete);
+        }
+
+    }
+
+}
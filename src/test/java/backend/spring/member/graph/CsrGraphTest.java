@@ -0,0 +1,73 @@
+package backend.spring.member.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsrGraphTest {
+
+    @Test
+    @DisplayName("팔로잉, 팔로워 목록을 오름차순으로 조회")
+    void buildsSortedAdjacency() {
+        CsrGraph csr = CsrGraph.build(edges(
+                1, 30,
+                1, 20,
+                2, 20,
+                30, 1,
+                1, 1000));
+
+        assertThat(csr.following(1)).containsExactly(20, 30, 1000);
+        assertThat(csr.followers(20)).containsExactly(1, 2);
+        assertThat(csr.followers(1)).containsExactly(30);
+        assertThat(csr.following(20)).isEmpty();
+        assertThat(csr.following(999)).isEmpty();
+        assertThat(csr.followingCount(1)).isEqualTo(3);
+        assertThat(csr.followerCount(20)).isEqualTo(2);
+        assertThat(csr.nodeCount()).isEqualTo(5);
+        assertThat(csr.edgeCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("간선 방향을 구분하여 존재 여부 확인")
+    void checksDirectedEdges() {
+        CsrGraph csr = CsrGraph.build(edges(1, 2, 2, 3));
+
+        assertThat(csr.has(1, 2)).isTrue();
+        assertThat(csr.has(2, 1)).isFalse();
+        assertThat(csr.has(1, 3)).isFalse();
+        assertThat(csr.has(4, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 간선을 한 번씩 순회")
+    void visitsEveryEdge() {
+        CsrGraph csr = CsrGraph.build(edges(1, 2, 2, 3, 3, 1, 1, 3));
+
+        List<String> visited = new ArrayList<>();
+        csr.forEachEdge((followerId, followingId) -> visited.add(followerId + "->" + followingId));
+
+        assertThat(visited).containsExactlyInAnyOrder("1->2", "2->3", "3->1", "1->3");
+    }
+
+    @Test
+    @DisplayName("빈 그래프")
+    void buildsEmptyGraph() {
+        assertThat(CsrGraph.EMPTY.nodeCount()).isZero();
+        assertThat(CsrGraph.EMPTY.edgeCount()).isZero();
+        assertThat(CsrGraph.EMPTY.has(1, 2)).isFalse();
+        assertThat(CsrGraph.EMPTY.followers(1)).isEmpty();
+    }
+
+    // (팔로워, 팔로잉) 쌍 목록
+    static EdgeBuffer edges(long... pairs) {
+        EdgeBuffer edges = new EdgeBuffer();
+        for (int i = 0; i < pairs.length; i += 2) {
+            edges.add(pairs[i], pairs[i + 1]);
+        }
+        return edges;
+    }
+
+}
@@ -0,0 +1,124 @@
+package backend.spring.member.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class FollowGraphTest {
+
+    @Test
+    @DisplayName("압축 후에도 변경분이 반영된 그래프를 그대로 조회")
+    void compactsDeltaIntoCsr() throws Exception {
+        FollowGraph graph = loadedGraph(1, new long[][]{{1, 2}, {1, 3}, {2, 3}});
+        graph.follow(3, 1);
+        graph.unfollow(1, 3);
+
+        graph.compact();
+
+        assertThat(graph.followingIds(1)).containsExactly(2);
+        assertThat(graph.followingIds(3)).containsExactly(1);
+        assertThat(graph.followerIds(3)).containsExactly(2);
+        assertThat(graph.follows(1, 3)).isFalse();
+        assertThat(graph.follows(3, 1)).isTrue();
+        assertThat(graph.edgeCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("압축과 동시에 들어온 팔로우, 언팔로우가 누락되지 않음")
+    void keepsWritesMadeDuringCompaction() throws Exception {
+        FollowGraph graph = loadedGraph(1, new long[][]{{1, 2}});
+        int writers = 4;
+        int edgesPerWriter = 2_000;
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            // 압축을 계속 반복
+            Future<?> compactor = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    graph.compact();
+                }
+                return null;
+            });
+
+            // 회원마다 서로 다른 간선을 팔로우한 뒤 홀수 번째는 언팔로우
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                long followerId = 100 + writer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long followingId = 1; followingId <= edgesPerWriter; followingId++) {
+                        graph.follow(followerId, followingId);
+                    }
+                    for (long followingId = 1; followingId <= edgesPerWriter; followingId += 2) {
+                        graph.unfollow(followerId, followingId);
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            compactor.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        graph.compact();
+
+        for (int writer = 0; writer < writers; writer++) {
+            long[] following = graph.followingIds(100 + writer);
+            assertThat(following).hasSize(edgesPerWriter / 2);
+            for (long followingId : following) {
+                assertThat(followingId % 2).isZero();
+            }
+        }
+        assertThat(graph.followingIds(1)).containsExactly(2);
+        assertThat(graph.edgeCount()).isEqualTo(1 + (long) writers * edgesPerWriter / 2);
+    }
+
+    // DB 대신 주어진 간선으로 적재한 그래프 (압축 기준 threshold)
+    private static FollowGraph loadedGraph(int threshold, long[][] edges) throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ResultSet rs = mock(ResultSet.class);
+        long[] row = new long[2];
+        when(rs.getLong(1)).thenAnswer(invocation -> row[0]);
+        when(rs.getLong(2)).thenAnswer(invocation -> row[1]);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long[] edge : edges) {
+                row[0] = edge[0];
+                row[1] = edge[1];
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        FollowGraph graph = new FollowGraph(jdbcTemplate, new SimpleMeterRegistry(), threshold);
+        graph.load();
+        return graph;
+    }
+
+}
@@ -0,0 +1,89 @@
+package backend.spring.member.graph;
+
+import static backend.spring.member.graph.CsrGraphTest.edges;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GraphDeltaTest {
+
+    private final CsrGraph csr = CsrGraph.build(edges(1, 2, 1, 3, 2, 3));
+
+    @Test
+    @DisplayName("CSR에 이미 있는 팔로우와 없는 언팔로우는 변경분을 만들지 않음")
+    void ignoresNoOps() {
+        GraphDelta delta = new GraphDelta();
+        delta.follow(csr, 1, 2);
+        delta.unfollow(csr, 3, 1);
+
+        assertThat(delta.size()).isZero();
+        assertThat(delta.netEdges()).isZero();
+    }
+
+    @Test
+    @DisplayName("추가 후 삭제, 삭제 후 추가는 서로 취소")
+    void cancelsOppositeChanges() {
+        GraphDelta delta = new GraphDelta();
+        delta.follow(csr, 3, 1);
+        delta.unfollow(csr, 3, 1);
+        delta.unfollow(csr, 1, 2);
+        delta.follow(csr, 1, 2);
+
+        assertThat(delta.size()).isZero();
+        assertThat(delta.addedFollowing(3)).isEmpty();
+        assertThat(delta.removedFollowing(1)).isEmpty();
+        assertThat(delta.isAdded(3, 1)).isFalse();
+        assertThat(delta.isRemoved(1, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가, 삭제를 정방향과 역방향에 함께 기록")
+    void tracksBothDirections() {
+        GraphDelta delta = new GraphDelta();
+        delta.follow(csr, 3, 1);
+        delta.follow(csr, 3, 1);
+        delta.unfollow(csr, 1, 3);
+
+        assertThat(delta.addedFollowing(3)).containsExactly(1L);
+        assertThat(delta.addedFollowers(1)).containsExactly(3L);
+        assertThat(delta.removedFollowing(1)).containsExactly(3L);
+        assertThat(delta.removedFollowers(3)).containsExactly(1L);
+        assertThat(delta.size()).isEqualTo(2);
+        assertThat(delta.netEdges()).isZero();
+    }
+
+    @Test
+    @DisplayName("병합 결과는 CSR 간선에서 삭제분을 빼고 추가분을 더한 것")
+    void mergesIntoNewEdges() {
+        GraphDelta delta = new GraphDelta();
+        delta.follow(csr, 3, 1);
+        delta.follow(csr, 4, 2);
+        delta.unfollow(csr, 1, 3);
+
+        EdgeBuffer merged = new EdgeBuffer();
+        delta.mergeInto(csr, merged);
+        CsrGraph compacted = CsrGraph.build(merged);
+
+        List<String> edges = new ArrayList<>();
+        compacted.forEachEdge((followerId, followingId) -> edges.add(followerId + "->" + followingId));
+        assertThat(edges).containsExactlyInAnyOrder("1->2", "2->3", "3->1", "4->2");
+    }
+
+    @Test
+    @DisplayName("변경 시 이전에 조회한 회원별 집합은 바뀌지 않음")
+    void keepsPublishedSetsImmutable() {
+        GraphDelta delta = new GraphDelta();
+        delta.follow(csr, 3, 1);
+        Set<Long> before = delta.addedFollowing(3);
+
+        delta.follow(csr, 3, 2);
+
+        assertThat(before).containsExactly(1L);
+        assertThat(delta.addedFollowing(3)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+}
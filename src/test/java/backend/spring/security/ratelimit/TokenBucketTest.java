@@ -0,0 +1,100 @@
+package backend.spring.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+class TokenBucketTest {
+
+    // 현재 epoch ms (42비트 시각 필드에 들어가는지 함께 확인)
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("버킷 용량만큼 연속 요청을 허용한 뒤 거절")
+    void allowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(milli(5), NOW);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(NOW, milli(5), 1)).isZero();
+        }
+        assertThat(bucket.tryAcquire(NOW, milli(5), 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("시각과 남은 토큰을 함께 담아도 서로 덮어쓰지 않음")
+    void packsTimeAndTokensWithoutOverlap() {
+        long capacityMilli = TokenBucket.TOKEN_MASK;
+        TokenBucket bucket = new TokenBucket(capacityMilli, NOW);
+
+        assertThat(bucket.lastRefillAt()).isEqualTo(NOW);
+        assertThat(bucket.tryAcquire(NOW + 1, capacityMilli, 1)).isZero();
+        assertThat(bucket.lastRefillAt()).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 다음 토큰까지 남은 ms를 올림하여 반환")
+    void returnsMillisUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(milli(1), NOW);
+        assertThat(bucket.tryAcquire(NOW, milli(1), 2)).isZero();
+
+        // 초당 2개 = 500ms마다 1개
+        assertThat(bucket.tryAcquire(NOW, milli(1), 2)).isEqualTo(500);
+        assertThat(bucket.tryAcquire(NOW + 250, milli(1), 2)).isEqualTo(250);
+
+        // 초당 3개 = 333.3ms마다 1개 (올림)
+        TokenBucket slow = new TokenBucket(milli(1), NOW);
+        assertThat(slow.tryAcquire(NOW, milli(1), 3)).isZero();
+        assertThat(slow.tryAcquire(NOW, milli(1), 3)).isEqualTo(334);
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 충전하되 용량을 넘지 않음")
+    void refillsUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(milli(2), NOW);
+        assertThat(bucket.tryAcquire(NOW, milli(2), 10)).isZero();
+        assertThat(bucket.tryAcquire(NOW, milli(2), 10)).isZero();
+        assertThat(bucket.tryAcquire(NOW, milli(2), 10)).isPositive();
+
+        // 100ms에 1개 충전
+        assertThat(bucket.tryAcquire(NOW + 100, milli(2), 10)).isZero();
+        assertThat(bucket.tryAcquire(NOW + 100, milli(2), 10)).isPositive();
+
+        // 오래 쉬어도 용량만큼만 허용
+        long later = NOW + 3_600_000;
+        assertThat(bucket.tryAcquire(later, milli(2), 10)).isZero();
+        assertThat(bucket.tryAcquire(later, milli(2), 10)).isZero();
+        assertThat(bucket.tryAcquire(later, milli(2), 10)).isPositive();
+    }
+
+    @Test
+    @DisplayName("시각이 뒤로 가면 충전하지 않고 마지막 충전 시각도 유지")
+    void ignoresClockGoingBackwards() {
+        TokenBucket bucket = new TokenBucket(milli(1), NOW);
+        assertThat(bucket.tryAcquire(NOW, milli(1), 1)).isZero();
+
+        assertThat(bucket.tryAcquire(NOW - 10_000, milli(1), 1)).isEqualTo(1000);
+        assertThat(bucket.lastRefillAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("22비트 토큰 필드를 넘는 용량은 규칙 생성 시 거부")
+    void rejectsCapacityThatOverflowsTokenBits() {
+        AntPathRequestMatcher matcher = new AntPathRequestMatcher("/**");
+        int maxCapacity = (int) (TokenBucket.TOKEN_MASK / TokenBucket.MILLI_TOKENS);
+
+        assertThat(new RateLimitRule("max", matcher, maxCapacity, 1).capacityMilli())
+                .isLessThanOrEqualTo(TokenBucket.TOKEN_MASK);
+        assertThatThrownBy(() -> new RateLimitRule("overflow", matcher, maxCapacity + 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitRule("zero", matcher, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long milli(int tokens) {
+        return tokens * TokenBucket.MILLI_TOKENS;
+    }
+
+}
@@ -0,0 +1,100 @@
+package backend.spring.sns.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.TreeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("차분값이 여러 바이트가 되는 id도 그대로 복원")
+    void roundTripsMultiByteDeltas() {
+        long[] ids = {1, 127, 128, 255, 16_383, 16_384, 2_097_152, 1L << 40, Long.MAX_VALUE};
+        PostingList postingList = new PostingList();
+        for (long id : ids) {
+            postingList.add(id);
+        }
+
+        assertThat(postingList.toArray()).containsExactly(ids);
+    }
+
+    @Test
+    @DisplayName("같은 id를 다시 추가해도 한 번만 저장")
+    void ignoresDuplicates() {
+        PostingList postingList = new PostingList();
+        postingList.add(10);
+        postingList.add(10);
+        postingList.add(20);
+        postingList.add(10);
+        postingList.add(20);
+
+        assertThat(postingList.toArray()).containsExactly(10, 20);
+    }
+
+    @Test
+    @DisplayName("역순 추가는 병합 전에도 정렬된 결과로 조회")
+    void returnsPendingIdsInOrder() {
+        PostingList postingList = new PostingList();
+        postingList.add(100);
+        postingList.add(50);
+        postingList.add(70);
+        postingList.add(50);
+
+        assertThat(postingList.toArray()).containsExactly(50, 70, 100);
+    }
+
+    @Test
+    @DisplayName("역순 추가가 쌓여 병합되어도 정렬, 중복 제거 유지")
+    void mergesPendingIdsInBulk() {
+        PostingList postingList = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // 재구축 중 등록된 게시물처럼 큰 id가 먼저 들어온 뒤 작은 id가 이어짐
+        postingList.add(1_000_000);
+        expected.add(1_000_000L);
+        for (long id = 1; id <= 5_000; id++) {
+            postingList.add(id * 3);
+            expected.add(id * 3);
+        }
+        for (long id = 5_000; id >= 1; id--) {
+            postingList.add(id * 2);
+            expected.add(id * 2);
+        }
+
+        assertThat(postingList.toArray())
+                .containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Test
+    @DisplayName("병합 대기 중인 id도 삭제")
+    void removesPendingIds() {
+        PostingList postingList = new PostingList();
+        postingList.add(30);
+        postingList.add(10);
+        postingList.add(20);
+
+        postingList.remove(10);
+        postingList.remove(30);
+        assertThat(postingList.toArray()).containsExactly(20);
+
+        postingList.remove(20);
+        assertThat(postingList.isEmpty()).isTrue();
+        assertThat(postingList.toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 후 추가 시 차분값 기준이 초기화됨")
+    void addsAfterRemove() {
+        PostingList postingList = new PostingList();
+        postingList.add(5);
+        postingList.add(9);
+        postingList.remove(9);
+        postingList.add(7);
+        postingList.add(6);
+
+        assertThat(postingList.toArray()).containsExactly(5, 6, 7);
+    }
+
+}